@@ -0,0 +1,248 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.util.JsonUtil;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Mesure des octets alloués par opération sur les chemins critiques, avec le profileur GC de JMH, et comparaison à
+ * une mesure de référence versionnée.
+ * <p>
+ * Le résumé est écrit dans {@code allocation.json} et {@code allocation.csv}. Le programme se termine avec le code 1
+ * si une mesure dépasse sa référence de plus du seuil relatif ({@code --threshold}, en pourcentage) et de plus de la
+ * tolérance absolue ({@code --tolerance}, en octets), qui évite les faux positifs sur les petites allocations.
+ * Options :
+ * <pre>
+ * --baseline &lt;fichier&gt;   référence (défaut : benchmarks/allocation-baseline.json)
+ * --output &lt;répertoire&gt;  répertoire du résumé (défaut : benchmarks/target)
+ * --threshold &lt;%&gt;        seuil relatif (défaut : 10)
+ * --tolerance &lt;octets&gt;   tolérance absolue (défaut : 64)
+ * --param nom=v1,v2       restreint un paramètre JMH, par exemple size=10
+ * --update-baseline       enregistre les mesures comme nouvelle référence au lieu de comparer
+ * </pre>
+ */
+public final class AllocationGate {
+
+    /**
+     * Métrique du profileur GC : octets alloués par opération.
+     */
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    /**
+     * Chemins surveillés, sous la forme suite.méthode.
+     */
+    private static final String[] KEY_PATHS = {
+            JsonUtilBenchmark.class.getSimpleName() + ".toJson",
+            ObjectComparatorBenchmark.class.getSimpleName() + ".compare",
+            PopulatorBenchmark.class.getSimpleName() + ".populate",
+            DateUtilBenchmark.class.getSimpleName() + ".formatDate"
+    };
+
+    private static final String REGRESSION = "REGRESSION";
+
+    private AllocationGate() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Path baselineFile = Paths.get("benchmarks", "allocation-baseline.json");
+        Path output = Paths.get("benchmarks", "target");
+        double threshold = 10;
+        long tolerance = 64;
+        boolean update = false;
+        Map<String, String[]> params = new LinkedHashMap<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline":
+                    baselineFile = Paths.get(value(args, ++i));
+                    break;
+                case "--output":
+                    output = Paths.get(value(args, ++i));
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(value(args, ++i));
+                    break;
+                case "--tolerance":
+                    tolerance = Long.parseLong(value(args, ++i));
+                    break;
+                case "--param":
+                    String param = value(args, ++i);
+                    int equals = param.indexOf('=');
+                    if (equals <= 0) {
+                        throw new IllegalArgumentException("Paramètre attendu sous la forme nom=v1,v2 : " + param);
+                    }
+                    params.put(param.substring(0, equals), param.substring(equals + 1).split(","));
+                    break;
+                case "--update-baseline":
+                    update = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Option inconnue : " + args[i]);
+            }
+        }
+
+        Map<String, Long> measured = measure(params);
+        Map<String, Long> baseline = readBaseline(baselineFile);
+
+        if (update) {
+            // Une exécution restreinte par --param ne remplace que les mesures correspondantes
+            baseline.putAll(measured);
+            Files.write(baselineFile, JsonUtil.toJson(baseline, true).getBytes(StandardCharsets.UTF_8));
+            System.out.println("Référence mise à jour : " + baselineFile);
+            return;
+        }
+
+        List<Map<String, Object>> rows = compare(measured, baseline, threshold, tolerance);
+        Files.createDirectories(output);
+        Files.write(output.resolve("allocation.json"), JsonUtil.toJson(rows, true).getBytes(StandardCharsets.UTF_8));
+        Files.write(output.resolve("allocation.csv"), toCsv(rows).getBytes(StandardCharsets.UTF_8));
+
+        boolean regression = false;
+        for (Map<String, Object> row : rows) {
+            System.out.printf(Locale.ROOT, "%-12s %-45s %14s B/op (référence %s)%n",
+                    row.get("status"), row.get("benchmark"), row.get("bytesPerOp"), row.get("baseline"));
+            regression |= REGRESSION.equals(row.get("status"));
+        }
+        if (regression) {
+            System.err.printf(Locale.ROOT, "Allocation en hausse de plus de %s %% par rapport à %s%n", threshold,
+                    baselineFile);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Exécute les chemins surveillés avec le profileur GC.
+     *
+     * @param params les valeurs de paramètres JMH imposées
+     * @return les octets alloués par opération, par benchmark et paramètres
+     * @throws RunnerException si JMH échoue
+     */
+    private static Map<String, Long> measure(Map<String, String[]> params) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.seconds(1))
+                .forks(1);
+        for (String keyPath : KEY_PATHS) {
+            options.include("\\." + Pattern.quote(keyPath) + "$");
+        }
+        for (Map.Entry<String, String[]> param : params.entrySet()) {
+            options.param(param.getKey(), param.getValue());
+        }
+
+        Collection<RunResult> results = new Runner(options.build()).run();
+        Map<String, Long> measured = new TreeMap<>();
+        for (RunResult result : results) {
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_METRIC);
+            if (allocation == null) {
+                throw new IllegalStateException("Métrique " + ALLOCATION_METRIC + " absente pour "
+                        + result.getParams().getBenchmark());
+            }
+            measured.put(key(result.getParams()), Math.round(allocation.getScore()));
+        }
+        return measured;
+    }
+
+    /**
+     * @param params les paramètres d'une exécution
+     * @return la clé stable d'une mesure, par exemple {@code JsonUtilBenchmark.toJson:size=10}
+     */
+    private static String key(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.',
+                benchmark.lastIndexOf('.') - 1) + 1));
+        char separator = ':';
+        for (String name : new TreeSet<>(params.getParamsKeys())) {
+            key.append(separator).append(name).append('=').append(params.getParam(name));
+            separator = ',';
+        }
+        return key.toString();
+    }
+
+    /**
+     * Compare chaque mesure à sa référence.
+     *
+     * @return une ligne par mesure : benchmark, bytesPerOp, baseline, deltaPercent et status (OK, REGRESSION ou NEW)
+     */
+    private static List<Map<String, Object>> compare(Map<String, Long> measured, Map<String, Long> baseline,
+                                                     double threshold, long tolerance) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : measured.entrySet()) {
+            long bytes = entry.getValue();
+            Long reference = baseline.get(entry.getKey());
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("benchmark", entry.getKey());
+            row.put("bytesPerOp", bytes);
+            row.put("baseline", reference);
+            if (reference == null) {
+                row.put("deltaPercent", null);
+                row.put("status", "NEW");
+            } else {
+                long delta = bytes - reference;
+                double percent = reference == 0 ? (delta == 0 ? 0 : 100) : delta * 100.0 / reference;
+                row.put("deltaPercent", Math.round(percent * 10) / 10.0);
+                row.put("status", percent > threshold && delta > tolerance ? REGRESSION : "OK");
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static Map<String, Long> readBaseline(Path file) throws IOException {
+        Map<String, Long> baseline = new TreeMap<>();
+        if (Files.exists(file)) {
+            String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Map<?, ?> entries = JsonUtil.fromJson(json, Map.class);
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                baseline.put(String.valueOf(entry.getKey()), ((Number) entry.getValue()).longValue());
+            }
+        }
+        return baseline;
+    }
+
+    private static String toCsv(List<Map<String, Object>> rows) {
+        StringBuilder csv = new StringBuilder("benchmark,bytesPerOp,baseline,deltaPercent,status\n");
+        for (Map<String, Object> row : rows) {
+            // La clé contient une virgule dès qu'il y a plusieurs paramètres
+            csv.append('"').append(row.get("benchmark")).append('"');
+            for (String column : new String[]{"bytesPerOp", "baseline", "deltaPercent", "status"}) {
+                Object value = row.get(column);
+                csv.append(',').append(value == null ? "" : value);
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Valeur manquante pour l'option " + args[index - 1]);
+        }
+        return args[index];
+    }
+}
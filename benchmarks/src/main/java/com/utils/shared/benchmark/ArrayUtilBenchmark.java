@@ -0,0 +1,94 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.util.ArrayUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Helpers de {@link ArrayUtil} sur des tableaux d'entiers contenant environ moitié de doublons. Les recherches
+ * portent sur une valeur absente, soit le parcours complet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayUtilBenchmark {
+
+    /* removeDuplicates est quadratique : les tailles restent modestes */
+    @Param({"16", "256", "4096"})
+    private int size;
+
+    private Integer[] values;
+    private Integer[] others;
+    private Integer missing;
+
+    @Setup
+    public void setUp() {
+        values = Payloads.integers(size);
+        others = Payloads.integers(size / 2 + 1);
+        missing = -1;
+    }
+
+    @Benchmark
+    public Integer[] concatenate() {
+        return ArrayUtil.concatenate(values, others);
+    }
+
+    @Benchmark
+    public Integer[] merge() {
+        return ArrayUtil.merge(values, others);
+    }
+
+    @Benchmark
+    public Integer[] subArray() {
+        return ArrayUtil.subArray(values, size / 4, size / 2);
+    }
+
+    @Benchmark
+    public Integer[] removeDuplicates() {
+        return ArrayUtil.removeDuplicates(values);
+    }
+
+    @Benchmark
+    public Integer[] removeElement() {
+        return ArrayUtil.removeElement(values, values[0]);
+    }
+
+    @Benchmark
+    public Integer[] reverse() {
+        return ArrayUtil.reverse(values);
+    }
+
+    @Benchmark
+    public Integer[] sort() {
+        return ArrayUtil.sort(values);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return ArrayUtil.indexOf(values, missing);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return ArrayUtil.contains(values, missing);
+    }
+
+    @Benchmark
+    public Integer findMax() {
+        return ArrayUtil.findMax(values);
+    }
+}
@@ -0,0 +1,34 @@
+package com.utils.shared.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Outils communs aux benchmarks.
+ */
+final class Benchmarks {
+
+    private Benchmarks() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+
+    /**
+     * Supprime un répertoire temporaire et son contenu.
+     *
+     * @param directory le répertoire à supprimer, ignoré s'il est null
+     * @throws IOException si un fichier ne peut pas être supprimé
+     */
+    static void deleteRecursively(Path directory) throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.util.DateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatage et lecture d'une date selon un format court ou complet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateUtilBenchmark {
+
+    @Param({"dd/MM/yyyy", "yyyy-MM-dd'T'HH:mm:ss.SSSZ"})
+    private String format;
+
+    private Date date;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        date = new Date(1_700_000_000_000L);
+        text = DateUtil.formatDate(date, format);
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return DateUtil.formatDate(date, format);
+    }
+
+    @Benchmark
+    public Date parseDate() {
+        return DateUtil.parseDate(text, format);
+    }
+}
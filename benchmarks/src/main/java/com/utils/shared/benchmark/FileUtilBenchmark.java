@@ -0,0 +1,60 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.util.FileUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copie d'un fichier de taille donnée, en kilo-octets. La destination est écrasée à chaque appel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileUtilBenchmark {
+
+    @Param({"4", "256", "16384"})
+    private int size;
+
+    private Path directory;
+    private String source;
+    private String destination;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("file-benchmark");
+        byte[] content = new byte[size * 1024];
+        new Random(42L).nextBytes(content);
+        Path sourcePath = Files.write(directory.resolve("source.bin"), content);
+        source = sourcePath.toString();
+        destination = directory.resolve("destination.bin").toString();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Benchmarks.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void copyFile() throws IOException {
+        FileUtil.copyFile(source, destination);
+    }
+}
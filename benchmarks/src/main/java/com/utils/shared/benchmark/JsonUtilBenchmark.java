@@ -0,0 +1,90 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.benchmark.model.CustomerList;
+import com.utils.shared.util.JsonUtil;
+import com.utils.shared.util.JsonWriterConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sérialisation et lecture JSON et binaire d'une liste de clients.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private CustomerList customers;
+    private String json;
+    private byte[] binary;
+    private JsonWriterConfig columnar;
+    private JsonWriterConfig parallel;
+
+    @Setup
+    public void setUp() {
+        customers = Payloads.customers(size);
+        json = JsonUtil.toJson(customers);
+        binary = JsonUtil.toBinary(customers);
+        columnar = new JsonWriterConfig().columnar();
+        parallel = new JsonWriterConfig().parallel(1024);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtil.toJson(customers);
+    }
+
+    @Benchmark
+    public String toJsonIndented() {
+        return JsonUtil.toJson(customers, true);
+    }
+
+    @Benchmark
+    public String toJsonColumnar() {
+        return JsonUtil.toJson(customers, columnar);
+    }
+
+    @Benchmark
+    public String toJsonParallel() {
+        return JsonUtil.toJson(customers, parallel);
+    }
+
+    @Benchmark
+    public void toJsonStream() throws IOException {
+        JsonUtil.toJson(customers, OutputStream.nullOutputStream(), false);
+    }
+
+    @Benchmark
+    public CustomerList fromJson() {
+        return JsonUtil.fromJson(json, CustomerList.class);
+    }
+
+    @Benchmark
+    public byte[] toBinary() {
+        return JsonUtil.toBinary(customers);
+    }
+
+    @Benchmark
+    public CustomerList fromBinary() {
+        return JsonUtil.fromBinary(binary, CustomerList.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.benchmark.model.TreeNode;
+import com.utils.shared.util.JsonUtil;
+import com.utils.shared.util.JsonWriterConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de la détection des cycles de {@link JsonUtil#toJson(Object)} : graphe profond (pile des objets en cours
+ * au-delà de sa capacité initiale) et graphe large, avec et sans {@link JsonWriterConfig#assumeAcyclic()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilGraphBenchmark {
+
+    @Param({"8", "64", "512"})
+    private int size;
+
+    private TreeNode deep;
+    private TreeNode wide;
+    private JsonWriterConfig detectCycles;
+    private JsonWriterConfig acyclic;
+
+    @Setup
+    public void setUp() {
+        deep = Payloads.deepTree(size);
+        wide = Payloads.wideTree(size * 16);
+        detectCycles = new JsonWriterConfig();
+        acyclic = new JsonWriterConfig().assumeAcyclic();
+    }
+
+    @Benchmark
+    public String deepDetectCycles() {
+        return JsonUtil.toJson(deep, detectCycles);
+    }
+
+    @Benchmark
+    public String deepAcyclic() {
+        return JsonUtil.toJson(deep, acyclic);
+    }
+
+    @Benchmark
+    public String wideDetectCycles() {
+        return JsonUtil.toJson(wide, detectCycles);
+    }
+
+    @Benchmark
+    public String wideAcyclic() {
+        return JsonUtil.toJson(wide, acyclic);
+    }
+}
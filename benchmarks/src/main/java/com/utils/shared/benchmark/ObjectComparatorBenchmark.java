@@ -0,0 +1,52 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.benchmark.model.Customer;
+import com.utils.shared.unit.test.assertions.ObjectComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparaison de deux listes de clients identiques mais distinctes : le parcours complet est toujours effectué.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectComparatorBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private List<Customer> expected;
+    private List<Customer> actual;
+
+    @Setup
+    public void setUp() {
+        expected = Payloads.customers(size).getCustomers();
+        actual = Payloads.customers(size).getCustomers();
+    }
+
+    @Benchmark
+    public void compare() {
+        ObjectComparator.compare(expected, actual);
+    }
+
+    @Benchmark
+    public void compareExcludingFields() {
+        ObjectComparator.compare(expected, actual, "email", "balance");
+    }
+}
@@ -0,0 +1,41 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.benchmark.model.CustomerList;
+import com.utils.shared.util.ObjectUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectUtilBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private CustomerList customers;
+
+    @Setup
+    public void setUp() {
+        customers = Payloads.customers(size);
+    }
+
+    @Benchmark
+    public CustomerList deepCopy() {
+        return ObjectUtil.deepCopy(customers);
+    }
+}
@@ -0,0 +1,105 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.benchmark.model.Address;
+import com.utils.shared.benchmark.model.Customer;
+import com.utils.shared.benchmark.model.CustomerList;
+import com.utils.shared.benchmark.model.TreeNode;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Jeux de données déterministes des benchmarks : une même taille donne toujours le même contenu, ce qui rend les
+ * mesures comparables d'une exécution à l'autre.
+ */
+public final class Payloads {
+
+    private static final long SEED = 42L;
+    private static final String[] CITIES = {"Paris", "Besançon", "Lyon", "Nantes", "Saint-Étienne"};
+    private static final String[] TAGS = {"premium", "b2b", "newsletter", "retard", "fidèle"};
+
+    private Payloads() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+
+    /**
+     * @param size le nombre de clients
+     * @return une liste de clients avec adresse et étiquettes
+     */
+    public static CustomerList customers(int size) {
+        Random random = new Random(SEED);
+        CustomerList list = new CustomerList();
+        for (int i = 0; i < size; i++) {
+            Address address = new Address();
+            address.setStreet(i + " rue de la \"Paix\"");
+            address.setCity(CITIES[i % CITIES.length]);
+            address.setZipCode(String.format("%05d", random.nextInt(100_000)));
+
+            Customer customer = new Customer();
+            customer.setId((long) i);
+            customer.setName("Client " + i);
+            customer.setEmail("client" + i + "@exemple.fr");
+            customer.setAge(18 + random.nextInt(70));
+            customer.setActive(random.nextBoolean());
+            customer.setBalance(Math.round(random.nextDouble() * 1_000_000) / 100.0);
+            customer.setAddress(address);
+            customer.getTags().addAll(Arrays.asList(TAGS).subList(0, 1 + i % TAGS.length));
+            list.getCustomers().add(customer);
+        }
+        return list;
+    }
+
+    /**
+     * @param length la longueur de la chaîne
+     * @return un texte accentué, avec guillemets et caractères de contrôle à échapper
+     */
+    public static String text(int length) {
+        String pattern = "Éléphant \"rosé\"\tà l'été ; ";
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append(pattern);
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+
+    /**
+     * @param size la taille du tableau
+     * @return des entiers dont environ la moitié sont des doublons
+     */
+    public static Integer[] integers(int size) {
+        Random random = new Random(SEED);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(Math.max(1, size / 2));
+        }
+        return values;
+    }
+
+    /**
+     * @param depth la profondeur de la chaîne
+     * @return une chaîne de nœuds, chacun ayant un seul enfant
+     */
+    public static TreeNode deepTree(int depth) {
+        TreeNode root = new TreeNode("0");
+        TreeNode current = root;
+        for (int i = 1; i < depth; i++) {
+            TreeNode child = new TreeNode(Integer.toString(i));
+            current.getChildren().add(child);
+            current = child;
+        }
+        return root;
+    }
+
+    /**
+     * @param width le nombre d'enfants de la racine
+     * @return un arbre de deux niveaux
+     */
+    public static TreeNode wideTree(int width) {
+        TreeNode root = new TreeNode("racine");
+        for (int i = 0; i < width; i++) {
+            root.getChildren().add(new TreeNode(Integer.toString(i)));
+        }
+        return root;
+    }
+}
@@ -0,0 +1,49 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.benchmark.model.Customer;
+import com.utils.shared.unit.test.data.Option;
+import com.utils.shared.unit.test.data.Populator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PopulatorBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private Option option;
+
+    @Setup
+    public void setUp() {
+        option = new Option();
+    }
+
+    @Benchmark
+    public List<Customer> populate() {
+        return Populator.populate(Customer.class, new ArrayList<>(size), size);
+    }
+
+    @Benchmark
+    public List<Customer> populateWithOption() {
+        return Populator.populate(Customer.class, new ArrayList<>(size), size, option);
+    }
+}
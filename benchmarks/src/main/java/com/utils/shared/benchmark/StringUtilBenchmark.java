@@ -0,0 +1,77 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.util.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringUtilBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private String text;
+    private String palindrome;
+
+    @Setup
+    public void setUp() {
+        text = Payloads.text(size);
+        palindrome = text + new StringBuilder(text).reverse();
+    }
+
+    @Benchmark
+    public String escape() {
+        return StringUtil.escape(text);
+    }
+
+    @Benchmark
+    public String reverse() {
+        return StringUtil.reverse(text);
+    }
+
+    @Benchmark
+    public boolean isPalindrome() {
+        return StringUtil.isPalindrome(palindrome);
+    }
+
+    @Benchmark
+    public int countOccurrences() {
+        return StringUtil.countOccurrences(text, "été", false);
+    }
+
+    @Benchmark
+    public int countOccurrencesIgnoreCase() {
+        return StringUtil.countOccurrences(text, "ÉTÉ", true);
+    }
+
+    @Benchmark
+    public String truncate() {
+        return StringUtil.truncate(text, size / 2);
+    }
+
+    @Benchmark
+    public String capitalize() {
+        return StringUtil.capitalize(text);
+    }
+
+    @Benchmark
+    public String removeDiacriticalMarks() {
+        return StringUtil.removeDiacriticalMarks(text);
+    }
+}
@@ -0,0 +1,48 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.benchmark.model.CustomerList;
+import com.utils.shared.util.XMLUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XMLUtilBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private CustomerList customers;
+    private String xml;
+
+    @Setup
+    public void setUp() {
+        customers = Payloads.customers(size);
+        xml = XMLUtil.toStringAsXML(customers);
+    }
+
+    @Benchmark
+    public String toStringAsXML() {
+        return XMLUtil.toStringAsXML(customers);
+    }
+
+    @Benchmark
+    public CustomerList toObject() {
+        return XMLUtil.toObject(xml, CustomerList.class);
+    }
+}
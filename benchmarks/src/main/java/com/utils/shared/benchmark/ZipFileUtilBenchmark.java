@@ -0,0 +1,73 @@
+package com.utils.shared.benchmark;
+
+import com.utils.shared.util.ZipFileUtil;
+import com.utils.shared.util.model.FileEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compression d'un répertoire de fichiers texte de 16 Ko et décompression en mémoire de l'archive obtenue.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZipFileUtilBenchmark {
+
+    private static final int FILE_SIZE = 16 * 1024;
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private Path directory;
+    private Path source;
+    private String zipTarget;
+    private String zipFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("zip-benchmark");
+        source = Files.createDirectory(directory.resolve("source"));
+        byte[] content = Payloads.text(FILE_SIZE).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < size; i++) {
+            Files.write(source.resolve("fichier-" + i + ".txt"), content);
+        }
+        zipTarget = directory.resolve("cible.zip").toString();
+        zipFile = directory.resolve("source.zip").toString();
+        ZipFileUtil.zip(source.toString(), zipFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Benchmarks.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void zip() throws IOException {
+        ZipFileUtil.zip(source.toString(), zipTarget);
+    }
+
+    @Benchmark
+    public List<FileEntry> unzip() throws IOException {
+        return ZipFileUtil.unzip(zipFile);
+    }
+}
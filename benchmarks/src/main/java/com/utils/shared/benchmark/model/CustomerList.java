@@ -0,0 +1,22 @@
+package com.utils.shared.benchmark.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enveloppe d'une liste de clients : racine des documents XML et JSON des benchmarks.
+ */
+public class CustomerList implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private List<Customer> customers = new ArrayList<>();
+
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+
+    public void setCustomers(List<Customer> customers) {
+        this.customers = customers;
+    }
+}
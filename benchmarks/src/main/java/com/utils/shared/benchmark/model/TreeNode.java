@@ -0,0 +1,27 @@
+package com.utils.shared.benchmark.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nœud d'arbre utilisé pour mesurer la détection des cycles sur des graphes profonds ou larges.
+ */
+public class TreeNode {
+    private String label;
+    private List<TreeNode> children = new ArrayList<>();
+
+    public TreeNode() {
+    }
+
+    public TreeNode(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public List<TreeNode> getChildren() {
+        return children;
+    }
+}
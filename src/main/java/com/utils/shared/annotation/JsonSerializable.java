@@ -0,0 +1,20 @@
+package com.utils.shared.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Demande la génération, à la compilation, d'un codec JSON {@code <Classe>JsonCodec} pour la classe annotée.
+ * <p>
+ * Le codec écrit les champs par appels directs aux getters, sans réflexion. Il est utilisé automatiquement par
+ * {@link com.utils.shared.util.JsonUtil#toJson(Object)} lorsqu'il est présent.
+ *
+ * @see com.utils.shared.annotation.processor.JsonCodecAnnotationProcessor
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonSerializable {
+
+}
@@ -0,0 +1,366 @@
+package com.utils.shared.annotation.processor;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.tree.StatementTree;
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.ModuleElement;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Génère un codec JSON {@code <Classe>JsonCodec} pour chaque classe annotée
+ * {@link com.utils.shared.annotation.JsonSerializable}.
+ * <p>
+ * Le codec écrit les champs non statiques de la classe et de ses super-classes (hors JDK), de la classe racine vers
+ * la classe annotée et dans l'ordre de déclaration, comme la sérialisation par réflexion. Comme elle, il écrit la
+ * valeur du champ et non celle de son getter :
+ * <ul>
+ *     <li>un champ accessible depuis le paquetage de la classe est lu directement ;</li>
+ *     <li>un champ privé est lu par son getter ({@code getX()}, ou {@code isX()} pour un booléen) si le corps de
+ *     celui-ci se limite à {@code return x;} ;</li>
+ *     <li>sinon, il est lu par un {@code FieldAccessor} créé au chargement du codec.</li>
+ * </ul>
+ * Les super-classes des modules du JDK ({@code java.*}, {@code jdk.*}) ne sont pas parcourues, comme dans
+ * {@code ClassMetadata.isPlatformClass}.
+ */
+@SupportedAnnotationTypes("com.utils.shared.annotation.JsonSerializable")
+public class JsonCodecAnnotationProcessor extends AbstractProcessor {
+
+    /**
+     * Arbres syntaxiques des sources compilées, ou null si le compilateur ne les expose pas : aucun getter n'est
+     * alors considéré comme simple.
+     */
+    private Trees trees;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        try {
+            trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            trees = null;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element annotatedElement : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (annotatedElement.getKind() != ElementKind.CLASS) {
+                    error(annotatedElement, "@JsonSerializable ne s'applique qu'aux classes");
+                } else if (annotatedElement.getModifiers().contains(Modifier.PRIVATE)) {
+                    error(annotatedElement, "@JsonSerializable ne s'applique pas à une classe privée");
+                } else {
+                    generateCodecClass((TypeElement) annotatedElement);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generateCodecClass(TypeElement classElement) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(classElement).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(classElement).toString();
+        String codecClassName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('$', '_') + "JsonCodec";
+        String typeName = typeName(classElement);
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n");
+        sb.append(" * Codec JSON généré pour {@link ").append(classElement.getQualifiedName()).append("} : ne pas modifier.\n");
+        sb.append(" */\n");
+        sb.append("public final class ").append(codecClassName)
+                .append(" implements com.utils.shared.util.JsonCodec<").append(typeName).append("> {\n\n");
+
+        StringBuilder body = new StringBuilder();
+        generateFieldsCode(classElement, sb, body);
+
+        sb.append("\n");
+        sb.append("\t@Override\n");
+        sb.append("\tpublic void writeFields(").append(typeName).append(" value, com.utils.shared.util.JsonWriter writer) {\n");
+        sb.append(body);
+        sb.append("\t}\n");
+        sb.append("}\n");
+
+        writeSourceFile(packageName.isEmpty() ? codecClassName : packageName + "." + codecClassName,
+                sb.toString(), classElement);
+    }
+
+    /**
+     * Génère une constante {@code JsonName} par champ, dans {@code constants}, et l'écriture des champs, dans
+     * {@code body} : les noms sont échappés une seule fois, au chargement du codec, comme les accesseurs des champs
+     * privés.
+     */
+    private void generateFieldsCode(TypeElement classElement, StringBuilder constants, StringBuilder body) {
+        List<ExecutableElement> methods = ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(classElement));
+        String packageName = packageName(classElement);
+        int index = 0;
+        for (VariableElement fieldElement : instanceFields(classElement)) {
+            String fieldName = fieldElement.getSimpleName().toString();
+            String fieldLiteral = processingEnv.getElementUtils().getConstantExpression(fieldName);
+            String constantName = "NAME_" + index;
+            constants.append("\tprivate static final com.utils.shared.util.JsonName ").append(constantName)
+                    .append(" = com.utils.shared.util.JsonName.of(").append(fieldLiteral).append(");\n");
+            String read = findAccessor(fieldElement, methods, packageName);
+            if (read == null) {
+                String accessorName = "FIELD_" + index;
+                constants.append("\tprivate static final com.utils.shared.util.FieldAccessor ").append(accessorName)
+                        .append(" = com.utils.shared.util.FieldAccessor.of(com.utils.shared.util.ReflectionUtil.getField(")
+                        .append(fieldLiteral).append(", ").append(classElement.getQualifiedName()).append(".class));\n");
+                read = accessorRead(accessorName, fieldElement.asType());
+            } else {
+                read = "value." + read;
+            }
+            body.append("\t\twriter.field(").append(constantName).append(", ").append(read).append(");\n");
+            index++;
+        }
+    }
+
+    /**
+     * @return la lecture du champ par son {@code FieldAccessor}, typée pour choisir la même surcharge de
+     * {@code JsonWriter.field} qu'un accès direct
+     */
+    private String accessorRead(String accessorName, TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return accessorName + ".getBoolean(value)";
+            case BYTE:
+            case SHORT:
+            case INT:
+                return accessorName + ".getInt(value)";
+            case LONG:
+                return accessorName + ".getLong(value)";
+            case FLOAT:
+                return "(float) " + accessorName + ".getDouble(value)";
+            case DOUBLE:
+                return accessorName + ".getDouble(value)";
+            case CHAR:
+                return "((Character) " + accessorName + ".get(value)).charValue()";
+            default:
+                return isString(type)
+                        ? "(String) " + accessorName + ".get(value)"
+                        : accessorName + ".get(value)";
+        }
+    }
+
+    private boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.lang.String");
+    }
+
+    /**
+     * Champs non statiques de la classe et de ses super-classes hors JDK, dans l'ordre de
+     * {@code ReflectionUtil.getAllFields} : de la classe racine vers la classe annotée, un champ masqué par une
+     * sous-classe étant retiré.
+     */
+    private List<VariableElement> instanceFields(TypeElement classElement) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement current = classElement; current != null; current = superclass(current)) {
+            hierarchy.push(current);
+        }
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement type : hierarchy) {
+            for (VariableElement fieldElement : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (!fieldElement.getModifiers().contains(Modifier.STATIC)) {
+                    fields.removeIf(inherited -> inherited.getSimpleName().equals(fieldElement.getSimpleName()));
+                    fields.add(fieldElement);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @return la super-classe, ou null si c'est une classe du JDK
+     */
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return isPlatformClass(element) ? null : element;
+    }
+
+    /**
+     * Pendant de {@code ClassMetadata.isPlatformClass} à la compilation : une classe d'un module nommé du JDK. Sans
+     * module (source antérieure à Java 9), le nom du paquetage en tient lieu.
+     */
+    private boolean isPlatformClass(TypeElement type) {
+        ModuleElement module = processingEnv.getElementUtils().getModuleOf(type);
+        if (module != null && module.isUnnamed()) {
+            return false;
+        }
+        String name = module == null ? type.getQualifiedName().toString() : module.getQualifiedName().toString();
+        return name.startsWith("java.") || name.startsWith("jdk.");
+    }
+
+    private String packageName(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+    }
+
+    /**
+     * Un membre d'une super-classe n'est accessible au codec, placé dans le paquetage de la classe annotée, que s'il
+     * est public ou déclaré dans ce même paquetage.
+     */
+    private boolean isAccessible(Element member, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC)
+                || !modifiers.contains(Modifier.PRIVATE) && packageName(member).equals(packageName);
+    }
+
+    /**
+     * @return l'expression lisant le champ depuis l'objet, accès direct ou getter simple, ou null s'il faut passer
+     * par un {@code FieldAccessor}
+     */
+    private String findAccessor(VariableElement fieldElement, List<ExecutableElement> methods, String packageName) {
+        if (isAccessible(fieldElement, packageName)) {
+            return fieldElement.getSimpleName().toString();
+        }
+        String capitalized = capitalize(fieldElement.getSimpleName().toString());
+        String[] getterNames = fieldElement.asType().getKind() == TypeKind.BOOLEAN
+                ? new String[]{"is" + capitalized, "get" + capitalized}
+                : new String[]{"get" + capitalized};
+        for (String getterName : getterNames) {
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(getterName)
+                        && method.getParameters().isEmpty()
+                        && isAccessible(method, packageName)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && processingEnv.getTypeUtils().isSameType(method.getReturnType(), fieldElement.asType())
+                        && isPlainGetter(method, fieldElement)) {
+                    return getterName + "()";
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Un getter est simple si son corps est {@code return x;} ou {@code return this.x;}, {@code x} désignant le champ
+     * écrit : il renvoie alors exactement la valeur lue par réflexion.
+     */
+    private boolean isPlainGetter(ExecutableElement method, VariableElement fieldElement) {
+        MethodTree tree = trees == null ? null : trees.getTree(method);
+        if (tree == null || tree.getBody() == null || tree.getBody().getStatements().size() != 1) {
+            return false;
+        }
+        StatementTree statement = tree.getBody().getStatements().get(0);
+        if (!(statement instanceof ReturnTree)) {
+            return false;
+        }
+        ExpressionTree expression = ((ReturnTree) statement).getExpression();
+        while (expression instanceof ParenthesizedTree) {
+            expression = ((ParenthesizedTree) expression).getExpression();
+        }
+        Name name;
+        if (expression instanceof IdentifierTree) {
+            name = ((IdentifierTree) expression).getName();
+        } else if (expression instanceof MemberSelectTree
+                && ((MemberSelectTree) expression).getExpression() instanceof IdentifierTree
+                && ((IdentifierTree) ((MemberSelectTree) expression).getExpression()).getName().contentEquals("this")) {
+            name = ((MemberSelectTree) expression).getIdentifier();
+        } else {
+            return false;
+        }
+        // Le nom doit désigner ce champ depuis la classe du getter, et non un champ qui le masque
+        return name.equals(fieldElement.getSimpleName())
+                && fieldElement.equals(visibleField((TypeElement) method.getEnclosingElement(), name));
+    }
+
+    /**
+     * @return le champ de ce nom déclaré par la classe ou par sa plus proche super-classe qui en déclare un
+     */
+    private VariableElement visibleField(TypeElement type, Name name) {
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement fieldElement : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (fieldElement.getSimpleName().equals(name)) {
+                    return fieldElement;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String typeName(TypeElement classElement) {
+        StringBuilder typeName = new StringBuilder(classElement.getQualifiedName());
+        int typeParameters = classElement.getTypeParameters().size();
+        if (typeParameters > 0) {
+            typeName.append('<');
+            for (int i = 0; i < typeParameters; i++) {
+                typeName.append(i == 0 ? "?" : ", ?");
+            }
+            typeName.append('>');
+        }
+        return typeName.toString();
+    }
+
+    private String capitalize(String input) {
+        if (input == null || input.isEmpty()) {
+            return input;
+        }
+        return Character.toUpperCase(input.charAt(0)) + input.substring(1);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void writeSourceFile(String className, String sourceCode, Element originatingElement) {
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(className, originatingElement);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(sourceCode);
+            }
+        } catch (IOException e) {
+            throw new CodecProcessorException("Erreur durant le processus de création du codec " + className, e);
+        }
+    }
+
+    /**
+     * Classe interne représentant une exception spécifique à la création des codecs.
+     */
+    private static class CodecProcessorException extends RuntimeException {
+        public CodecProcessorException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
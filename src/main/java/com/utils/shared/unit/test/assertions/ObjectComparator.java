@@ -1,11 +1,11 @@
 package com.utils.shared.unit.test.assertions;
 
+import com.utils.shared.util.ClassMetadata;
 import com.utils.shared.util.JsonUtil;
 import com.utils.shared.util.ReflectionUtil;
 import com.utils.shared.unit.test.assertions.constantes.IDEInterface;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
@@ -218,10 +218,7 @@ public class ObjectComparator {
      */
     private static Map<String, Object> extractFields(Object obj) {
         Map<String, Object> fields = new HashMap<>();
-        for (Field field : obj.getClass().getDeclaredFields()) {
-            if (Modifier.isStatic(field.getModifiers())) {
-                continue;
-            }
+        for (Field field : ClassMetadata.of(obj.getClass()).allFieldList()) {
             fields.put(field.getName(), ReflectionUtil.getFieldValue(field, obj));
         }
         return fields;
@@ -1,8 +1,9 @@
 package com.utils.shared.unit.test.data;
 
+import com.utils.shared.util.ClassMetadata;
+import com.utils.shared.util.Instantiator;
 import com.utils.shared.util.ReflectionUtil;
 
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -47,10 +48,12 @@ public class Populator {
      * @param <T>        le type des objets dans la collection
      * @param <C>        le type de la collection
      * @return la collection peuplée
+     * @throws ReflectionUtil.ReflectionException si la classe ne peut pas être instanciée
      */
     public static <T, C extends Collection<T>> C populate(final Class<T> clazz, final C collection, int size, final Option option) {
+        Instantiator<T> instantiator = ReflectionUtil.getInstantiator(clazz);
         for (int i = 0; i < size; i++) {
-            collection.add(populate(ReflectionUtil.createInstance(clazz), i, option));
+            collection.add(populate(instantiator.newInstance(), i, option));
         }
         return collection;
     }
@@ -79,10 +82,9 @@ public class Populator {
     public static <T> T populate(final T object, final int key, final Option options) {
         if (object == null) return null;
         Class<?> clazz = object.getClass();
-        for (java.lang.reflect.Field field : clazz.getDeclaredFields()) {
-            field.setAccessible(true);
+        for (java.lang.reflect.Field field : ClassMetadata.of(clazz).allFieldList()) {
             String fieldName = field.getName();
-            if (Modifier.isStatic(field.getModifiers()) || options.shouldIgnoreField(fieldName)) {
+            if (options.shouldIgnoreField(fieldName)) {
                 continue;  // Ignorer le champ
             }
 
@@ -0,0 +1,283 @@
+package com.utils.shared.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Métadonnées de réflexion d'une classe, calculées une seule fois par classe.
+ * <p>
+ * Le cache repose sur un {@link ClassValue} : les métadonnées sont attachées à la classe elle-même et n'empêchent pas
+ * son déchargement. Il remplace les appels répétés à {@code getDeclaredFields()}, {@code getDeclaredField(String)},
+ * {@code getGenericType()} et {@code getDeclaredConstructor()} de {@link ReflectionUtil}, {@link JsonUtil},
+ * {@code Populator} et {@code ObjectComparator}.
+ * <p>
+ * Les accesseurs de champs ({@link FieldAccessor}), l'instanciateur ({@link Instantiator}) et l'index des champs
+ * hérités ({@link FieldIndex}) sont créés à leur première utilisation, comme les types génériques résolus par
+ * {@link TypeResolver}.
+ * <p>
+ * Les tableaux de champs sont partagés par les plans JSON, le clonage et la comparaison : ils restent internes au
+ * paquetage. Hors du paquetage, les champs sont exposés par une liste non modifiable ({@link #allFieldList()}) ou
+ * par une copie ({@link ReflectionUtil#getAllFields(Class)}).
+ */
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Field[] declaredFields;
+    /**
+     * Calculés au premier appel : les champs ne sont rendus accessibles que si la classe est parcourue, et non quand
+     * seuls ses types génériques ou son constructeur sont utilisés.
+     */
+    private volatile Field[] fields;
+    private volatile Field[] sortedFields;
+    private final Map<String, Field> fieldsByName;
+    private final Constructor<?> constructor;
+    private final Map<String, FieldAccessor> accessors = new ConcurrentHashMap<>();
+    /**
+     * L'instanciateur de la classe, ou l'exception expliquant pourquoi elle ne peut pas être instanciée.
+     */
+    private volatile Object instantiator;
+    private volatile FieldIndex fieldIndex;
+    private volatile Field[] allFields;
+    private volatile List<Field> allFieldList;
+    private volatile Map<TypeVariable<?>, Type> typeBindings;
+    private final Map<Field, Type> resolvedTypes = new ConcurrentHashMap<>();
+
+    private ClassMetadata(Class<?> clazz) {
+        this.type = clazz;
+        this.declaredFields = clazz.getDeclaredFields();
+        this.fieldsByName = new HashMap<>(declaredFields.length * 2);
+        for (Field field : declaredFields) {
+            fieldsByName.put(field.getName(), field);
+        }
+        this.constructor = findConstructor(clazz);
+    }
+
+    /**
+     * Obtient les métadonnées d'une classe, en les calculant au premier appel.
+     *
+     * @param clazz la classe
+     * @return les métadonnées de la classe
+     */
+    public static ClassMetadata of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * @return les champs non statiques déclarés par la classe, dans l'ordre de déclaration et déjà rendus accessibles
+     */
+    Field[] fields() {
+        Field[] instanceFields = fields;
+        if (instanceFields == null) {
+            List<Field> accessible = new ArrayList<>(declaredFields.length);
+            for (Field field : declaredFields) {
+                // Les champs inaccessibles (modules fermés) ne sont pas parcourus
+                if (!Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                    accessible.add(field);
+                }
+            }
+            instanceFields = accessible.toArray(new Field[0]);
+            fields = instanceFields;
+        }
+        return instanceFields;
+    }
+
+    /**
+     * @return les champs de {@link #fields()} triés par nom
+     */
+    Field[] sortedFields() {
+        Field[] sorted = sortedFields;
+        if (sorted == null) {
+            sorted = fields().clone();
+            Arrays.sort(sorted, Comparator.comparing(Field::getName));
+            sortedFields = sorted;
+        }
+        return sorted;
+    }
+
+    /**
+     * Recherche un champ déclaré par la classe, statique ou non.
+     *
+     * @param name le nom du champ
+     * @return le champ, ou null si la classe ne déclare pas de champ de ce nom
+     */
+    public Field field(String name) {
+        return fieldsByName.get(name);
+    }
+
+    /**
+     * @param name le nom d'un champ déclaré par la classe
+     * @return la classe du premier argument de type du champ, {@code Object.class} si le champ n'est pas paramétré
+     * @see ReflectionUtil#getCollectionType(Field)
+     */
+    public Class<?> elementType(String name) {
+        Field field = field(name);
+        return field == null ? Object.class : ReflectionUtil.getCollectionType(field);
+    }
+
+    /**
+     * @return le constructeur sans argument déclaré par la classe, ou null s'il n'existe pas
+     */
+    public Constructor<?> constructor() {
+        return constructor;
+    }
+
+    /**
+     * Champs non statiques accessibles de la classe et de ses super-classes, calculés au premier appel à partir de
+     * ceux de la super-classe. Les champs sont rangés de la classe racine vers la classe elle-même ; un champ masqué
+     * par un champ de même nom d'une sous-classe est retiré. Les champs déclarés par les super-classes du JDK
+     * ({@code ArrayList}, {@code Exception}...) ne sont pas parcourus : ce sont des détails d'implémentation.
+     *
+     * @return les champs, tableau partagé à ne pas modifier
+     * @see ReflectionUtil#getAllFields(Class)
+     */
+    Field[] allFields() {
+        Field[] all = allFields;
+        if (all == null) {
+            Class<?> superclass = type.getSuperclass();
+            all = superclass == null || isPlatformClass(superclass)
+                    ? fields()
+                    : merge(of(superclass).allFields(), fields());
+            allFields = all;
+        }
+        return all;
+    }
+
+    /**
+     * @return true si la classe est chargée par le chargeur d'amorçage ou le chargeur de plateforme (classes du JDK)
+     */
+    static boolean isPlatformClass(Class<?> clazz) {
+        ClassLoader loader = clazz.getClassLoader();
+        return loader == null || loader == ClassLoader.getPlatformClassLoader();
+    }
+
+    private static Field[] merge(Field[] inherited, Field[] declared) {
+        if (inherited.length == 0) {
+            return declared;
+        }
+        List<Field> merged = new ArrayList<>(inherited.length + declared.length);
+        for (Field field : inherited) {
+            if (!declares(declared, field.getName())) {
+                merged.add(field);
+            }
+        }
+        merged.addAll(Arrays.asList(declared));
+        return merged.toArray(new Field[0]);
+    }
+
+    private static boolean declares(Field[] fields, String name) {
+        for (Field field : fields) {
+            if (field.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return les champs de {@link #allFields()} sous forme de liste non modifiable, créée au premier appel
+     */
+    public List<Field> allFieldList() {
+        List<Field> list = allFieldList;
+        if (list == null) {
+            list = Collections.unmodifiableList(Arrays.asList(allFields()));
+            allFieldList = list;
+        }
+        return list;
+    }
+
+    /**
+     * @return l'index des champs de la classe et de ses super-classes hors JDK, construit au premier appel
+     * @see FieldIndex#of(Class)
+     */
+    FieldIndex fieldIndex() {
+        FieldIndex index = fieldIndex;
+        if (index == null) {
+            Class<?> superclass = type.getSuperclass();
+            index = FieldIndex.create(superclass == null || isPlatformClass(superclass)
+                    ? null
+                    : of(superclass).fieldIndex(), declaredFields);
+            fieldIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * @return les liaisons des variables de type des super-types de la classe, calculées au premier appel
+     */
+    Map<TypeVariable<?>, Type> typeBindings() {
+        Map<TypeVariable<?>, Type> bindings = typeBindings;
+        if (bindings == null) {
+            bindings = TypeResolver.bindings(type);
+            typeBindings = bindings;
+        }
+        return bindings;
+    }
+
+    /**
+     * @param field un champ déclaré ou hérité par la classe
+     * @return le type du champ résolu par rapport à la classe, calculé au premier appel
+     * @see TypeResolver#resolve(Class, Field)
+     */
+    Type resolvedType(Field field) {
+        return resolvedTypes.computeIfAbsent(field, f -> f.getDeclaringClass() == type
+                ? f.getGenericType()
+                : TypeResolver.substitute(f.getGenericType(), typeBindings()));
+    }
+
+    /**
+     * Obtient l'instanciateur de la classe, en le créant au premier appel.
+     *
+     * @return l'instanciateur appelant le constructeur sans argument
+     * @throws ReflectionUtil.ReflectionException si la classe ne peut pas être instanciée
+     */
+    public Instantiator<?> instantiator() {
+        Object value = instantiator;
+        if (value == null) {
+            try {
+                value = Instantiators.create(type, constructor);
+            } catch (ReflectionUtil.ReflectionException e) {
+                value = e;
+            }
+            instantiator = value;
+        }
+        if (value instanceof ReflectionUtil.ReflectionException) {
+            ReflectionUtil.ReflectionException failure = (ReflectionUtil.ReflectionException) value;
+            throw new ReflectionUtil.ReflectionException(failure.getMessage(), failure.getCause());
+        }
+        return (Instantiator<?>) value;
+    }
+
+    /**
+     * @param field un champ déclaré par la classe
+     * @return l'accesseur du champ, créé au premier appel
+     */
+    FieldAccessor accessor(Field field) {
+        return accessors.computeIfAbsent(field.getName(), name -> new FieldAccessor(field));
+    }
+
+    private static Constructor<?> findConstructor(Class<?> clazz) {
+        try {
+            return clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.utils.shared.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Accès en lecture et en écriture à un champ par des {@link MethodHandle} résolus une seule fois.
+ * <p>
+ * Les handles sont obtenus par {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)} : le contrôle
+ * d'accès est fait à la création de l'accesseur et non à chaque appel comme avec {@link Field#get(Object)} et
+ * {@link Field#set(Object, Object)}. Les variantes typées ({@link #getInt(Object)}, {@link #setInt(Object, int)}...)
+ * lisent et écrivent les champs primitifs sans passer par une valeur encapsulée ; elles acceptent les mêmes
+ * élargissements que {@link Field#getInt(Object)} (un champ {@code short} se lit en {@code int}). Leurs handles sont
+ * adaptés au type demandé à la création de l'accesseur et appelés par {@code invokeExact}.
+ * <p>
+ * Un champ statique s'utilise de la même façon, l'objet passé étant ignoré. Les accesseurs sont mis en cache par
+ * {@link ClassMetadata}.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType OBJECT_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    /**
+     * {@code (Object)T}, T étant le type du champ.
+     */
+    private final MethodHandle getter;
+    /**
+     * {@code (Object, T)void}, ou null si le champ ne peut pas être modifié.
+     */
+    private final MethodHandle setter;
+    private final MethodHandle objectGetter;
+    private final MethodHandle objectSetter;
+    /**
+     * {@code (Object, Object)void} : écrit dans le premier objet la valeur lue dans le second, sans encapsulation.
+     */
+    private final MethodHandle copier;
+    /**
+     * Handles des variantes typées, {@code (Object)p} et {@code (Object, p)void}, adaptés une seule fois ; null si le
+     * champ est inaccessible ou si son type n'est pas convertible.
+     */
+    private final MethodHandle booleanGetter;
+    private final MethodHandle booleanSetter;
+    private final MethodHandle intGetter;
+    private final MethodHandle intSetter;
+    private final MethodHandle longGetter;
+    private final MethodHandle longSetter;
+    private final MethodHandle doubleGetter;
+    private final MethodHandle doubleSetter;
+
+    FieldAccessor(Field field) {
+        this.field = field;
+        MethodHandles.Lookup lookup = lookup(field);
+        if (lookup == null) {
+            this.getter = null;
+            this.setter = null;
+        } else {
+            this.getter = getter(lookup, field);
+            this.setter = setter(lookup, field);
+        }
+        this.objectGetter = getter == null ? null : getter.asType(OBJECT_GETTER);
+        this.objectSetter = setter == null ? null : setter.asType(OBJECT_SETTER);
+        this.copier = getter == null || setter == null
+                ? null
+                : MethodHandles.filterArguments(setter, 1, getter).asType(OBJECT_SETTER);
+        this.booleanGetter = adaptGetter(getter, boolean.class);
+        this.booleanSetter = adaptSetter(setter, boolean.class);
+        this.intGetter = adaptGetter(getter, int.class);
+        this.intSetter = adaptSetter(setter, int.class);
+        this.longGetter = adaptGetter(getter, long.class);
+        this.longSetter = adaptSetter(setter, long.class);
+        this.doubleGetter = adaptGetter(getter, double.class);
+        this.doubleSetter = adaptSetter(setter, double.class);
+    }
+
+    private static MethodHandle adaptGetter(MethodHandle getter, Class<?> type) {
+        return adapt(getter, MethodType.methodType(type, Object.class));
+    }
+
+    private static MethodHandle adaptSetter(MethodHandle setter, Class<?> type) {
+        return adapt(setter, MethodType.methodType(void.class, Object.class, type));
+    }
+
+    /**
+     * @return le handle adapté, ou null si le type du champ n'admet pas la conversion (un {@code String} lu en
+     * {@code int}, un {@code long} écrit depuis un {@code double}...)
+     */
+    private static MethodHandle adapt(MethodHandle handle, MethodType type) {
+        if (handle == null) {
+            return null;
+        }
+        try {
+            return handle.asType(type);
+        } catch (WrongMethodTypeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Obtient l'accesseur d'un champ, en le créant au premier appel.
+     *
+     * @param field le champ
+     * @return l'accesseur du champ
+     */
+    public static FieldAccessor of(Field field) {
+        return ClassMetadata.of(field.getDeclaringClass()).accessor(field);
+    }
+
+    /**
+     * Crée un lookup disposant des droits privés sur la classe du champ. Si le paquetage n'est pas ouvert (module
+     * nommé), le champ n'est accessible que s'il peut être rendu accessible par réflexion.
+     *
+     * @return le lookup, ou null si le champ est inaccessible
+     */
+    private static MethodHandles.Lookup lookup(Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return field.trySetAccessible() ? MethodHandles.lookup() : null;
+        }
+    }
+
+    private static MethodHandle getter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            if (Modifier.isStatic(field.getModifiers())) {
+                return MethodHandles.dropArguments(lookup.unreflectGetter(field), 0, Object.class);
+            }
+            VarHandle handle = varHandle(lookup, field);
+            return handle != null ? handle.toMethodHandle(VarHandle.AccessMode.GET) : lookup.unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle setter(MethodHandles.Lookup lookup, Field field) {
+        int modifiers = field.getModifiers();
+        try {
+            if (Modifier.isStatic(modifiers)) {
+                return Modifier.isFinal(modifiers)
+                        ? null
+                        : MethodHandles.dropArguments(lookup.unreflectSetter(field), 0, Object.class);
+            }
+            if (Modifier.isFinal(modifiers)) {
+                // Un VarHandle n'écrit pas un champ final : seul un champ rendu accessible peut l'être, comme avec
+                // Field.set
+                return field.trySetAccessible() ? lookup.unreflectSetter(field) : null;
+            }
+            VarHandle handle = varHandle(lookup, field);
+            return handle != null ? handle.toMethodHandle(VarHandle.AccessMode.SET) : lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return le VarHandle du champ, ou null si le lookup n'a pas les droits privés sur sa classe (le champ n'est
+     * alors accessible que par les handles d'un champ rendu accessible)
+     */
+    private static VarHandle varHandle(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectVarHandle(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return le champ accédé
+     */
+    public Field field() {
+        return field;
+    }
+
+    /**
+     * Lit la valeur d'un champ, encapsulée si le champ est primitif.
+     *
+     * @param object l'objet portant le champ
+     * @return la valeur du champ
+     * @throws ReflectionUtil.ReflectionException si le champ est inaccessible ou si l'objet n'a pas ce champ
+     */
+    public Object get(Object object) {
+        if (objectGetter == null) {
+            throw inaccessible();
+        }
+        try {
+            return objectGetter.invokeExact(object);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Écrit la valeur d'un champ, désencapsulée si le champ est primitif.
+     *
+     * @param object l'objet portant le champ
+     * @param value  la valeur à écrire
+     * @throws ReflectionUtil.ReflectionException si le champ est inaccessible ou final, ou si la valeur n'est pas du
+     *                                            type du champ
+     */
+    public void set(Object object, Object value) {
+        if (objectSetter == null) {
+            throw inaccessible();
+        }
+        try {
+            objectSetter.invokeExact(object, value);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Recopie la valeur du champ d'un objet dans un autre, sans encapsuler la valeur d'un champ primitif.
+     *
+     * @param source l'objet lu
+     * @param target l'objet modifié
+     * @throws ReflectionUtil.ReflectionException si le champ est inaccessible ou final, ou si un des objets n'a pas
+     *                                            ce champ
+     */
+    public void copy(Object source, Object target) {
+        if (copier == null) {
+            throw inaccessible();
+        }
+        try {
+            copier.invokeExact(target, source);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public boolean getBoolean(Object object) {
+        try {
+            return (boolean) checked(booleanGetter, getter).invokeExact(object);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public void setBoolean(Object object, boolean value) {
+        try {
+            checked(booleanSetter, setter).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public int getInt(Object object) {
+        try {
+            return (int) checked(intGetter, getter).invokeExact(object);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public void setInt(Object object, int value) {
+        try {
+            checked(intSetter, setter).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public long getLong(Object object) {
+        try {
+            return (long) checked(longGetter, getter).invokeExact(object);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public void setLong(Object object, long value) {
+        try {
+            checked(longSetter, setter).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public double getDouble(Object object) {
+        try {
+            return (double) checked(doubleGetter, getter).invokeExact(object);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public void setDouble(Object object, double value) {
+        try {
+            checked(doubleSetter, setter).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * @param typed le handle adapté au type demandé
+     * @param raw   le handle du champ, null si le champ est inaccessible
+     */
+    private MethodHandle checked(MethodHandle typed, MethodHandle raw) {
+        if (raw == null) {
+            throw inaccessible();
+        }
+        if (typed == null) {
+            throw new ReflectionUtil.ReflectionException("Erreur lors de l'accès au champ",
+                    new ClassCastException("Type incompatible avec le champ " + field));
+        }
+        return typed;
+    }
+
+    private ReflectionUtil.ReflectionException inaccessible() {
+        return new ReflectionUtil.ReflectionException("Erreur lors de l'accès au champ",
+                new IllegalAccessException(field.toString()));
+    }
+
+    private static RuntimeException failure(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e instanceof ReflectionUtil.ReflectionException) {
+            return (ReflectionUtil.ReflectionException) e;
+        }
+        // WrongMethodTypeException, ClassCastException ou NullPointerException : objet ou valeur d'un autre type
+        return new ReflectionUtil.ReflectionException("Erreur lors de l'accès au champ", e);
+    }
+}
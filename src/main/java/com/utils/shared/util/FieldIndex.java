@@ -0,0 +1,132 @@
+package com.utils.shared.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index immuable des champs non statiques d'une classe, champs hérités compris, avec recherche par nom en temps
+ * constant.
+ * <p>
+ * Les super-classes parcourues sont celles de {@link ReflectionUtil#getAllFields(Class)} : les champs déclarés par une
+ * super-classe du JDK ({@code ArrayList}, {@code Exception}...) ne sont pas indexés. Contrairement à
+ * {@code getAllFields}, l'index conserve les champs masqués et les champs inaccessibles.
+ * <p>
+ * Les champs sont rangés de la classe racine vers la classe indexée, chaque classe dans l'ordre de déclaration. Un
+ * nom masqué par une sous-classe désigne le champ de la sous-classe, le champ masqué restant dans la liste.
+ * <p>
+ * La recherche utilise une table à adressage ouvert (sondage linéaire) d'une taille au moins double du nombre de
+ * champs : elle ne trie rien et ne compare qu'un ou deux noms dans le cas courant. L'index est construit une seule fois
+ * par classe et mis en cache par {@link ClassMetadata}.
+ */
+public final class FieldIndex {
+
+    private static final FieldIndex EMPTY = new FieldIndex(new Field[0]);
+
+    private final Field[] fields;
+    private final List<Field> fieldList;
+    private final String[] names;
+    private final int[] positions;
+    private final int mask;
+
+    private FieldIndex(Field[] fields) {
+        this.fields = fields;
+        this.fieldList = Collections.unmodifiableList(Arrays.asList(fields));
+        int capacity = Integer.highestOneBit(Math.max(2, fields.length) * 2 - 1) << 1;
+        this.names = new String[capacity];
+        this.positions = new int[capacity];
+        this.mask = capacity - 1;
+        for (int position = 0; position < fields.length; position++) {
+            String name = fields[position].getName();
+            int slot = slot(name);
+            // Un champ de la sous-classe, indexé après celui de la super-classe, prend sa place
+            names[slot] = name;
+            positions[slot] = position;
+        }
+    }
+
+    /**
+     * Obtient l'index des champs d'une classe, en le construisant au premier appel.
+     *
+     * @param clazz la classe
+     * @return l'index des champs de la classe et de ses super-classes
+     */
+    public static FieldIndex of(Class<?> clazz) {
+        return ClassMetadata.of(clazz).fieldIndex();
+    }
+
+    /**
+     * Construit l'index d'une classe à partir de celui de sa super-classe.
+     *
+     * @param parent        l'index de la super-classe, ou null pour une classe racine ou héritant d'une classe du JDK
+     * @param declaredFields les champs déclarés par la classe
+     * @return le nouvel index
+     */
+    static FieldIndex create(FieldIndex parent, Field[] declaredFields) {
+        List<Field> all = new ArrayList<>(parent == null ? declaredFields.length : parent.size() + declaredFields.length);
+        if (parent != null) {
+            all.addAll(parent.fieldList);
+        }
+        for (Field field : declaredFields) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                all.add(field);
+            }
+        }
+        return all.isEmpty() ? EMPTY : new FieldIndex(all.toArray(new Field[0]));
+    }
+
+    /**
+     * Recherche l'emplacement d'un nom : celui qui le contient, ou le premier emplacement libre.
+     */
+    private int slot(String name) {
+        int hash = name.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (names[slot] != null && !names[slot].equals(name)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * @param name le nom du champ
+     * @return le champ portant ce nom, celui de la classe la plus dérivée s'il est masqué, ou null s'il n'existe pas
+     */
+    public Field get(String name) {
+        int position = indexOf(name);
+        return position < 0 ? null : fields[position];
+    }
+
+    /**
+     * @param name le nom du champ
+     * @return la position du champ dans {@link #fields()}, ou -1 s'il n'existe pas
+     */
+    public int indexOf(String name) {
+        int slot = slot(name);
+        return names[slot] == null ? -1 : positions[slot];
+    }
+
+    /**
+     * @param position la position du champ
+     * @return le champ à cette position
+     */
+    public Field field(int position) {
+        return fields[position];
+    }
+
+    /**
+     * @return le nombre de champs indexés, champs masqués compris
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * @return les champs dans l'ordre défini, sous forme de liste non modifiable
+     */
+    public List<Field> fields() {
+        return fieldList;
+    }
+}
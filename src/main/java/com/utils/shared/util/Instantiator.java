@@ -0,0 +1,21 @@
+package com.utils.shared.util;
+
+/**
+ * Création d'instances d'une classe par son constructeur sans argument, obtenue par
+ * {@link ReflectionUtil#getInstantiator(Class)}.
+ * <p>
+ * Le constructeur est résolu et son accès contrôlé une seule fois. L'appel passe ensuite par une classe générée avec
+ * {@link java.lang.invoke.LambdaMetafactory}, que le compilateur JIT peut intégrer à l'appelant comme un {@code new}.
+ *
+ * @param <T> le type créé
+ */
+@FunctionalInterface
+public interface Instantiator<T> {
+
+    /**
+     * Crée une nouvelle instance. Les exceptions levées par le constructeur sont propagées telles quelles.
+     *
+     * @return la nouvelle instance
+     */
+    T newInstance();
+}
@@ -0,0 +1,107 @@
+package com.utils.shared.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * Construction des {@link Instantiator}, mis en cache par {@link ClassMetadata}.
+ * <p>
+ * L'accès au constructeur est contrôlé depuis ce paquetage, comme le faisait {@link Constructor#newInstance(Object...)}
+ * appelé par {@link ReflectionUtil} : un constructeur privé d'une autre classe reste inaccessible. La classe générée
+ * par {@link LambdaMetafactory} est ensuite rattachée à la classe instanciée, ce qui la rend visible quel que soit son
+ * chargeur de classes. Si la classe appartient au JDK ou n'est pas ouverte à ce module, le constructeur est appelé par
+ * un {@link MethodHandle}.
+ */
+final class Instantiators {
+
+    private static final MethodType INSTANTIATOR_FACTORY = MethodType.methodType(Instantiator.class);
+    private static final MethodType SUPPLIER_FACTORY = MethodType.methodType(Supplier.class);
+    private static final MethodType GENERIC_FACTORY_METHOD = MethodType.methodType(Object.class);
+
+    private Instantiators() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+
+    /**
+     * @param clazz       la classe à instancier
+     * @param constructor son constructeur sans argument, ou null s'il n'existe pas
+     * @return l'instanciateur de la classe
+     * @throws ReflectionUtil.ReflectionException si la classe ne peut pas être instanciée
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Instantiator<T> create(Class<T> clazz, Constructor<?> constructor) {
+        if (clazz.isInterface() || clazz.isArray() || clazz.isPrimitive() || Modifier.isAbstract(clazz.getModifiers())) {
+            throw failure("Classe abstraite ou non instanciable : " + clazz.getName(), null);
+        }
+        if (constructor == null) {
+            throw failure("Aucun constructeur sans argument : " + clazz.getName(), null);
+        }
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw failure("Constructeur sans argument inaccessible : " + clazz.getName(), e);
+        }
+
+        if (ClassMetadata.isPlatformClass(clazz)) {
+            // Un accès privé aux classes du JDK provoquerait un avertissement d'accès réflexif illégal sous Java 11
+            return handleInstantiator(handle.asType(GENERIC_FACTORY_METHOD));
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            MethodType instantiated = MethodType.methodType(clazz);
+            if (isVisible(Instantiator.class, clazz)) {
+                // Une classe générée par instanciateur : l'appel de newInstance() reste monomorphe chez l'appelant
+                CallSite site = LambdaMetafactory.metafactory(lookup, "newInstance", INSTANTIATOR_FACTORY,
+                        GENERIC_FACTORY_METHOD, handle, instantiated);
+                return (Instantiator<T>) site.getTarget().invokeExact();
+            }
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_FACTORY, GENERIC_FACTORY_METHOD,
+                    handle, instantiated);
+            Supplier<T> supplier = (Supplier<T>) site.getTarget().invokeExact();
+            return supplier::get;
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            return handleInstantiator(handle.asType(GENERIC_FACTORY_METHOD));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw failure("Erreur lors de la création de l'instanciateur : " + clazz.getName(), e);
+        }
+    }
+
+    /**
+     * @return true si le chargeur de la classe instanciée résout l'interface vers la même classe, condition pour que
+     * la classe générée, rattachée à la classe instanciée, puisse l'implémenter
+     */
+    private static boolean isVisible(Class<?> type, Class<?> clazz) {
+        try {
+            return Class.forName(type.getName(), false, clazz.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Instantiator<T> handleInstantiator(MethodHandle handle) {
+        return () -> {
+            try {
+                return (T) handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw failure("Erreur lors de l'instanciation", e);
+            }
+        };
+    }
+
+    private static ReflectionUtil.ReflectionException failure(String message, Throwable cause) {
+        return new ReflectionUtil.ReflectionException(message, cause);
+    }
+}
@@ -0,0 +1,24 @@
+package com.utils.shared.util;
+
+/**
+ * Écriture JSON personnalisée d'un type, enregistrée par {@link JsonUtil#register(Class, JsonAdapter)}.
+ * <p>
+ * L'adaptateur écrit exactement une valeur JSON avec les méthodes {@code value} de {@link JsonWriter}, ou un objet
+ * avec {@link JsonWriter#object(Object, JsonCodec)}. Exemple :
+ * <pre>{@code
+ * JsonUtil.register(Money.class, (money, writer) -> writer.value(money.getAmount() + " " + money.getCurrency()));
+ * }</pre>
+ *
+ * @param <T> le type écrit
+ */
+@FunctionalInterface
+public interface JsonAdapter<T> {
+
+    /**
+     * Écrit une valeur non null.
+     *
+     * @param value  la valeur à écrire
+     * @param writer le contexte d'écriture
+     */
+    void write(T value, JsonWriter writer);
+}
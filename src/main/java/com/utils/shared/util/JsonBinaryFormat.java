@@ -0,0 +1,52 @@
+package com.utils.shared.util;
+
+/**
+ * Encodage binaire compact du modèle JSON, utilisé par {@link JsonUtil#toBinary(Object)} et
+ * {@link JsonUtil#fromBinary(byte[], Class)}.
+ * <p>
+ * Un document commence par l'en-tête {@code 'J' 'B'} suivi de la version, puis contient une seule valeur.
+ * Chaque valeur commence par un octet d'étiquette :
+ * <ul>
+ *     <li>{@link #NULL}, {@link #FALSE}, {@link #TRUE} : sans contenu ;</li>
+ *     <li>{@link #INTEGER} : entier signé en varint zigzag (1 octet de -64 à 63) ;</li>
+ *     <li>{@link #DOUBLE} et {@link #FLOAT} : valeur IEEE 754 sur 8 ou 4 octets, poids fort en premier ;</li>
+ *     <li>{@link #BIG_NUMBER} : texte décimal d'un {@code BigDecimal} ou d'un {@code BigInteger} ;</li>
+ *     <li>{@link #STRING} : longueur en octets (varint) puis UTF-8 ;</li>
+ *     <li>{@link #BEGIN_ARRAY} ... {@link #END_ARRAY} et {@link #BEGIN_OBJECT} ... {@link #END_OBJECT} ;</li>
+ *     <li>dans un objet, chaque valeur est précédée de son nom : {@link #NAME} suivi du nom encodé comme une
+ *     chaîne, ou {@link #NAME_REFERENCE} suivi de l'indice (varint) d'un nom déjà rencontré.</li>
+ * </ul>
+ * Les noms sont numérotés dans leur ordre de première apparition, jusqu'à {@link #MAX_NAMES} noms : au-delà, un
+ * nouveau nom est toujours écrit en entier. Une liste de 100 000 objets du même type ne contient ainsi chaque nom de
+ * champ qu'une seule fois.
+ */
+final class JsonBinaryFormat {
+
+    static final byte MAGIC_1 = 'J';
+    static final byte MAGIC_2 = 'B';
+    static final byte VERSION = 1;
+
+    static final int NULL = 0x00;
+    static final int FALSE = 0x01;
+    static final int TRUE = 0x02;
+    static final int INTEGER = 0x03;
+    static final int DOUBLE = 0x04;
+    static final int FLOAT = 0x05;
+    static final int BIG_NUMBER = 0x06;
+    static final int STRING = 0x07;
+    static final int BEGIN_ARRAY = 0x08;
+    static final int END_ARRAY = 0x09;
+    static final int BEGIN_OBJECT = 0x0A;
+    static final int END_OBJECT = 0x0B;
+    static final int NAME = 0x0C;
+    static final int NAME_REFERENCE = 0x0D;
+
+    /**
+     * Nombre maximal de noms numérotés par document.
+     */
+    static final int MAX_NAMES = 4096;
+
+    private JsonBinaryFormat() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+}
@@ -0,0 +1,331 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.JsonUtil.JsonParsingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.utils.shared.util.JsonBinaryFormat.BEGIN_ARRAY;
+import static com.utils.shared.util.JsonBinaryFormat.BEGIN_OBJECT;
+import static com.utils.shared.util.JsonBinaryFormat.BIG_NUMBER;
+import static com.utils.shared.util.JsonBinaryFormat.DOUBLE;
+import static com.utils.shared.util.JsonBinaryFormat.END_ARRAY;
+import static com.utils.shared.util.JsonBinaryFormat.END_OBJECT;
+import static com.utils.shared.util.JsonBinaryFormat.FALSE;
+import static com.utils.shared.util.JsonBinaryFormat.FLOAT;
+import static com.utils.shared.util.JsonBinaryFormat.INTEGER;
+import static com.utils.shared.util.JsonBinaryFormat.MAX_NAMES;
+import static com.utils.shared.util.JsonBinaryFormat.NAME;
+import static com.utils.shared.util.JsonBinaryFormat.NAME_REFERENCE;
+import static com.utils.shared.util.JsonBinaryFormat.NULL;
+import static com.utils.shared.util.JsonBinaryFormat.STRING;
+import static com.utils.shared.util.JsonBinaryFormat.TRUE;
+
+/**
+ * Lecture de l'encodage binaire décrit par {@link JsonBinaryFormat}, sous forme de jetons JSON.
+ * <p>
+ * Les valeurs lues sont converties par {@link JsonBinder} exactement comme celles d'un texte JSON : un document
+ * binaire et sa version texte donnent les mêmes objets.
+ */
+final class JsonBinaryReader implements JsonTokenSource {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private byte[] buffer;
+    private int pos;
+    private int limit;
+    private long offset;
+
+    private final List<String> names = new ArrayList<>();
+    private boolean started;
+    private int depth;
+
+    /* Jeton courant */
+    private int tag;
+    private long integerValue;
+    private double doubleValue;
+    private float floatValue;
+    private int textStart;
+    private int textLength;
+    private String name;
+
+    /**
+     * Crée un lecteur sur un document en mémoire.
+     *
+     * @param data le document binaire
+     */
+    JsonBinaryReader(byte[] data) {
+        this.in = null;
+        this.buffer = data;
+        this.limit = data.length;
+    }
+
+    /**
+     * Crée un lecteur sur un flux, lu par blocs.
+     *
+     * @param in le flux du document binaire
+     */
+    JsonBinaryReader(InputStream in) {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    @Override
+    public JsonToken next() {
+        if (!started) {
+            readHeader();
+            started = true;
+        } else if (depth == 0) {
+            if (fill(1)) {
+                throw syntaxError("données inattendues après la fin du document");
+            }
+            return JsonToken.END_DOCUMENT;
+        }
+        tag = readByte();
+        switch (tag) {
+            case NULL:
+                return JsonToken.NULL;
+            case FALSE:
+            case TRUE:
+                return JsonToken.BOOLEAN;
+            case INTEGER:
+                long zigzag = readVarint();
+                integerValue = (zigzag >>> 1) ^ -(zigzag & 1);
+                return JsonToken.NUMBER;
+            case DOUBLE:
+                require(8);
+                doubleValue = Double.longBitsToDouble(readBits(8));
+                return JsonToken.NUMBER;
+            case FLOAT:
+                require(4);
+                floatValue = Float.intBitsToFloat((int) readBits(4));
+                return JsonToken.NUMBER;
+            case BIG_NUMBER:
+                readText();
+                return JsonToken.NUMBER;
+            case STRING:
+                readText();
+                return JsonToken.STRING;
+            case BEGIN_ARRAY:
+                depth++;
+                return JsonToken.BEGIN_ARRAY;
+            case END_ARRAY:
+                depth--;
+                return JsonToken.END_ARRAY;
+            case BEGIN_OBJECT:
+                depth++;
+                return JsonToken.BEGIN_OBJECT;
+            case END_OBJECT:
+                depth--;
+                return JsonToken.END_OBJECT;
+            case NAME:
+                readText();
+                name = new String(buffer, textStart, textLength, StandardCharsets.UTF_8);
+                if (names.size() < MAX_NAMES) {
+                    names.add(name);
+                }
+                return JsonToken.NAME;
+            case NAME_REFERENCE:
+                long index = readVarint();
+                if (index < 0 || index >= names.size()) {
+                    throw syntaxError("référence de nom inconnue : " + index);
+                }
+                name = names.get((int) index);
+                tag = NAME;
+                return JsonToken.NAME;
+            default:
+                throw syntaxError("étiquette inconnue : " + tag);
+        }
+    }
+
+    @Override
+    public String stringValue() {
+        switch (tag) {
+            case NAME:
+                return name;
+            case INTEGER:
+                return Long.toString(integerValue);
+            case DOUBLE:
+                return Double.toString(doubleValue);
+            case FLOAT:
+                return Float.toString(floatValue);
+            default:
+                return new String(buffer, textStart, textLength, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public boolean tokenEquals(String value) {
+        return tag == NAME ? name.equals(value) : stringValue().equals(value);
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return tag == TRUE;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        if (tag == INTEGER) {
+            return true;
+        }
+        if (tag != BIG_NUMBER) {
+            return false;
+        }
+        for (int i = textStart; i < textStart + textLength; i++) {
+            byte b = buffer[i];
+            if (b == '.' || b == 'e' || b == 'E') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long longValue() {
+        if (tag == INTEGER) {
+            return integerValue;
+        }
+        try {
+            return bigDecimalValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw syntaxError("nombre entier hors limites : " + stringValue());
+        }
+    }
+
+    @Override
+    public double doubleValue() {
+        switch (tag) {
+            case INTEGER:
+                return integerValue;
+            case DOUBLE:
+                return doubleValue;
+            default:
+                // Même valeur que la lecture du texte écrit par toJson
+                return Double.parseDouble(stringValue());
+        }
+    }
+
+    @Override
+    public BigDecimal bigDecimalValue() {
+        return tag == INTEGER ? BigDecimal.valueOf(integerValue) : new BigDecimal(stringValue());
+    }
+
+    @Override
+    public Number numberValue() {
+        if (!isIntegral()) {
+            return doubleValue();
+        }
+        // Même règle que JsonTokenizer : au-delà de 18 caractères, le texte JSON donnerait un BigInteger
+        if (tag == BIG_NUMBER || Math.abs(integerValue) >= 100_000_000_000_000_000L || integerValue == Long.MIN_VALUE) {
+            String text = stringValue();
+            if (text.length() > 18) {
+                return new BigInteger(text);
+            }
+            integerValue = Long.parseLong(text);
+        }
+        return (int) integerValue == integerValue ? (Number) (int) integerValue : (Number) integerValue;
+    }
+
+    @Override
+    public JsonParsingException syntaxError(String message) {
+        return new JsonParsingException("Erreur de format binaire à l'octet " + (offset + pos) + " : " + message);
+    }
+
+    private void readHeader() {
+        require(3);
+        if (buffer[pos] != JsonBinaryFormat.MAGIC_1 || buffer[pos + 1] != JsonBinaryFormat.MAGIC_2) {
+            throw syntaxError("en-tête de document binaire absent");
+        }
+        if (buffer[pos + 2] != JsonBinaryFormat.VERSION) {
+            throw syntaxError("version non supportée : " + buffer[pos + 2]);
+        }
+        pos += 3;
+    }
+
+    private void readText() {
+        long length = readVarint();
+        if (length < 0 || length > Integer.MAX_VALUE - 16) {
+            throw syntaxError("longueur invalide : " + length);
+        }
+        require((int) length);
+        textStart = pos;
+        textLength = (int) length;
+        pos += textLength;
+    }
+
+    private int readByte() {
+        require(1);
+        return buffer[pos++] & 0xFF;
+    }
+
+    private long readBits(int bytes) {
+        long bits = 0;
+        for (int i = 0; i < bytes; i++) {
+            bits = bits << 8 | (buffer[pos++] & 0xFF);
+        }
+        return bits;
+    }
+
+    private long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw syntaxError("entier variable trop long");
+    }
+
+    private void require(int needed) {
+        if (!fill(needed)) {
+            throw syntaxError("fin de document inattendue");
+        }
+    }
+
+    /**
+     * Garantit qu'au moins {@code needed} octets sont disponibles à partir de la position courante. Les octets déjà
+     * consommés sont écartés : les valeurs du jeton précédent ne sont plus lisibles ensuite.
+     *
+     * @return false si la source est épuisée avant
+     */
+    private boolean fill(int needed) {
+        if (limit - pos >= needed) {
+            return true;
+        }
+        if (in == null) {
+            return false;
+        }
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            offset += pos;
+            limit -= pos;
+            pos = 0;
+        }
+        if (needed > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(needed, buffer.length * 2));
+        }
+        try {
+            while (limit < needed) {
+                int read = in.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    return false;
+                }
+                limit += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+}
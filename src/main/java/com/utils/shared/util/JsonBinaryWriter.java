@@ -0,0 +1,371 @@
+package com.utils.shared.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.utils.shared.util.JsonBinaryFormat.BEGIN_ARRAY;
+import static com.utils.shared.util.JsonBinaryFormat.BEGIN_OBJECT;
+import static com.utils.shared.util.JsonBinaryFormat.BIG_NUMBER;
+import static com.utils.shared.util.JsonBinaryFormat.DOUBLE;
+import static com.utils.shared.util.JsonBinaryFormat.END_ARRAY;
+import static com.utils.shared.util.JsonBinaryFormat.END_OBJECT;
+import static com.utils.shared.util.JsonBinaryFormat.FALSE;
+import static com.utils.shared.util.JsonBinaryFormat.FLOAT;
+import static com.utils.shared.util.JsonBinaryFormat.INTEGER;
+import static com.utils.shared.util.JsonBinaryFormat.MAX_NAMES;
+import static com.utils.shared.util.JsonBinaryFormat.NAME;
+import static com.utils.shared.util.JsonBinaryFormat.NAME_REFERENCE;
+import static com.utils.shared.util.JsonBinaryFormat.NULL;
+import static com.utils.shared.util.JsonBinaryFormat.STRING;
+import static com.utils.shared.util.JsonBinaryFormat.TRUE;
+
+/**
+ * Écriture d'un graphe d'objets dans l'encodage binaire décrit par {@link JsonBinaryFormat}.
+ * <p>
+ * Le parcours est celui de {@link JsonUtil#toJson(Object)} : mêmes champs via {@link JsonObjectPlan}, champs null
+ * omis, valeurs flottantes non finies écrites null et cycles écrits comme un objet vide. Les codecs générés
+ * produisant du texte, les classes annotées {@link com.utils.shared.annotation.JsonSerializable} sont ici
+ * parcourues par réflexion.
+ */
+final class JsonBinaryWriter {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private byte[] buffer;
+    private int position;
+    private final OutputStream sink;
+    private final JsonPath path = new JsonPath();
+    private final Map<String, Integer> names = new HashMap<>();
+
+    /**
+     * Crée un encodeur en mémoire.
+     */
+    JsonBinaryWriter() {
+        this.buffer = new byte[INITIAL_CAPACITY];
+        this.sink = null;
+    }
+
+    /**
+     * Crée un encodeur vers un flux, vidé par blocs d'environ {@value JsonWriter#FLUSH_THRESHOLD} octets.
+     *
+     * @param sink le flux de sortie, ni vidé ni fermé
+     */
+    JsonBinaryWriter(OutputStream sink) {
+        this.buffer = new byte[JsonWriter.FLUSH_THRESHOLD + JsonWriter.FLUSH_THRESHOLD / 2];
+        this.sink = sink;
+    }
+
+    /**
+     * Écrit un document complet : en-tête puis valeur.
+     *
+     * @param object la valeur à écrire
+     * @throws UncheckedIOException si l'écriture vers le flux échoue
+     */
+    void writeDocument(Object object) {
+        ensureCapacity(3);
+        buffer[position++] = JsonBinaryFormat.MAGIC_1;
+        buffer[position++] = JsonBinaryFormat.MAGIC_2;
+        buffer[position++] = JsonBinaryFormat.VERSION;
+        write(object);
+        flush();
+    }
+
+    /**
+     * @return les octets écrits par un encodeur en mémoire
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void write(Object object) {
+        if (object == null) {
+            writeTag(NULL);
+        } else if (object instanceof String) {
+            writeString(STRING, (String) object);
+        } else if (object instanceof Number) {
+            writeNumber((Number) object);
+        } else if (object instanceof Boolean) {
+            writeTag((Boolean) object ? TRUE : FALSE);
+        } else if (object instanceof Character) {
+            writeString(STRING, object.toString());
+        } else if (object instanceof Collection) {
+            writeTag(BEGIN_ARRAY);
+            for (Object item : (Collection<?>) object) {
+                write(item);
+                flushIfNeeded();
+            }
+            writeTag(END_ARRAY);
+        } else if (object.getClass().isArray()) {
+            writeArray(object);
+        } else if (object instanceof Map) {
+            writeTag(BEGIN_OBJECT);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                writeName(JsonValueTypes.keyText(entry.getKey()));
+                write(entry.getValue());
+                flushIfNeeded();
+            }
+            writeTag(END_OBJECT);
+        } else if (JsonValueTypes.isTextValue(object.getClass())) {
+            writeString(STRING, JsonValueTypes.toText(object));
+        } else if (JsonUtil.isOptional(object)) {
+            write(JsonUtil.unwrapOptional(object));
+        } else {
+            writeCustomObject(object);
+        }
+    }
+
+    private void writeCustomObject(Object object) {
+        writeTag(BEGIN_OBJECT);
+        if (path.enter(object)) {
+            for (JsonObjectPlan.JsonFieldPlan field : JsonObjectPlan.of(object.getClass()).fields()) {
+                Object value = field.get(object);
+                if (value != null) {
+                    writeName(field.jsonName());
+                    write(value);
+                    flushIfNeeded();
+                }
+            }
+            path.exit(object);
+        }
+        writeTag(END_OBJECT);
+    }
+
+    private void writeArray(Object array) {
+        writeTag(BEGIN_ARRAY);
+        if (array instanceof Object[]) {
+            for (Object element : (Object[]) array) {
+                write(element);
+                flushIfNeeded();
+            }
+        } else if (array instanceof int[]) {
+            for (int value : (int[]) array) {
+                writeInteger(value);
+                flushIfNeeded();
+            }
+        } else if (array instanceof long[]) {
+            for (long value : (long[]) array) {
+                writeInteger(value);
+                flushIfNeeded();
+            }
+        } else if (array instanceof double[]) {
+            for (double value : (double[]) array) {
+                writeDouble(value);
+                flushIfNeeded();
+            }
+        } else if (array instanceof float[]) {
+            for (float value : (float[]) array) {
+                writeFloat(value);
+                flushIfNeeded();
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean value : (boolean[]) array) {
+                writeTag(value ? TRUE : FALSE);
+                flushIfNeeded();
+            }
+        } else if (array instanceof char[]) {
+            for (char value : (char[]) array) {
+                writeString(STRING, String.valueOf(value));
+                flushIfNeeded();
+            }
+        } else if (array instanceof short[]) {
+            for (short value : (short[]) array) {
+                writeInteger(value);
+                flushIfNeeded();
+            }
+        } else {
+            for (byte value : (byte[]) array) {
+                writeInteger(value);
+                flushIfNeeded();
+            }
+        }
+        writeTag(END_ARRAY);
+    }
+
+    private void writeNumber(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            writeInteger(number.longValue());
+        } else if (number instanceof Double) {
+            writeDouble(number.doubleValue());
+        } else if (number instanceof Float) {
+            writeFloat(number.floatValue());
+        } else {
+            writeString(BIG_NUMBER, number.toString());
+        }
+    }
+
+    private void writeInteger(long value) {
+        ensureCapacity(11);
+        buffer[position++] = INTEGER;
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    private void writeDouble(double value) {
+        if (!Double.isFinite(value)) {
+            writeTag(NULL);
+            return;
+        }
+        ensureCapacity(9);
+        buffer[position++] = DOUBLE;
+        long bits = Double.doubleToRawLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (bits >>> shift);
+        }
+    }
+
+    private void writeFloat(float value) {
+        if (!Float.isFinite(value)) {
+            writeTag(NULL);
+            return;
+        }
+        ensureCapacity(5);
+        buffer[position++] = FLOAT;
+        int bits = Float.floatToRawIntBits(value);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (bits >>> shift);
+        }
+    }
+
+    /**
+     * Écrit un nom de champ ou de clé : en entier à sa première apparition, par son indice ensuite.
+     */
+    private void writeName(String name) {
+        if (!writeNameReference(name)) {
+            writeString(NAME, name);
+        }
+    }
+
+    /**
+     * Écrit un nom de champ dont l'encodage UTF-8 est déjà calculé.
+     */
+    private void writeName(JsonName name) {
+        if (writeNameReference(name.name())) {
+            return;
+        }
+        byte[] utf8 = name.utf8();
+        ensureCapacity(6 + utf8.length);
+        buffer[position++] = NAME;
+        writeVarint(utf8.length);
+        System.arraycopy(utf8, 0, buffer, position, utf8.length);
+        position += utf8.length;
+    }
+
+    /**
+     * Écrit la référence d'un nom déjà rencontré, ou numérote un nouveau nom.
+     *
+     * @return true si la référence a été écrite, false si le nom doit être écrit en entier
+     */
+    private boolean writeNameReference(String name) {
+        Integer index = names.get(name);
+        if (index != null) {
+            ensureCapacity(6);
+            buffer[position++] = NAME_REFERENCE;
+            writeVarint(index);
+            return true;
+        }
+        if (names.size() < MAX_NAMES) {
+            names.put(name, names.size());
+        }
+        return false;
+    }
+
+    /**
+     * Écrit une étiquette suivie d'une chaîne en UTF-8 précédée de sa longueur en octets.
+     */
+    private void writeString(int tag, String value) {
+        int length = value.length();
+        int utf8Length = utf8Length(value);
+        ensureCapacity(6 + utf8Length);
+        buffer[position++] = (byte) tag;
+        writeVarint(utf8Length);
+        if (utf8Length == length) {
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) value.charAt(i);
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | c >> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                // Surrogate isolé : remplacé comme le fait String.getBytes
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | c >> 12);
+                buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    utf8Length++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // 2 caractères, 4 octets
+                    utf8Length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    utf8Length += 2;
+                }
+            }
+        }
+        return utf8Length;
+    }
+
+    private void writeTag(int tag) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) tag;
+    }
+
+    private void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (position + needed > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + needed));
+        }
+    }
+
+    private void flushIfNeeded() {
+        if (sink != null && position >= JsonWriter.FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (sink == null || position == 0) {
+            return;
+        }
+        try {
+            sink.write(buffer, 0, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+}
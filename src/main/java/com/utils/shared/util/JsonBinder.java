@@ -0,0 +1,478 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.JsonUtil.JsonParsingException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Liaison des jetons d'une {@link JsonTokenSource} vers des objets Java.
+ * <p>
+ * Les champs des objets sont résolus via le même {@link JsonObjectPlan} que la sérialisation, et le type des
+ * éléments des collections, des clés et des valeurs des maps via {@link TypeResolver}. Une clé est relue dans le type
+ * déclaré : chaîne, nombre, booléen, caractère, énumération ou type valeur ({@code UUID}, {@code java.time}).
+ */
+final class JsonBinder {
+
+    private JsonBinder() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+
+    /**
+     * Lit un document JSON complet et le convertit dans le type demandé.
+     *
+     * @param source la source positionnée au début du document
+     * @param type   le type de l'objet à créer
+     * @return l'objet lu, ou null si le document est le littéral {@code null}
+     * @throws JsonParsingException si le document est mal formé ou incompatible avec le type demandé
+     */
+    static Object read(JsonTokenSource source, Class<?> type) {
+        Object value = readValue(source, source.next(), type, Object.class);
+        source.next();
+        return value;
+    }
+
+    /**
+     * Convertit la valeur dont le premier jeton a déjà été lu dans le type demandé.
+     *
+     * @param source la source positionnée après le premier jeton de la valeur
+     * @param token  le premier jeton de la valeur
+     * @param type   le type de l'objet à créer
+     * @return l'objet lu, ou null pour le littéral {@code null}
+     * @throws JsonParsingException si la valeur est mal formée ou incompatible avec le type demandé
+     */
+    static Object readValue(JsonTokenSource source, JsonToken token, Class<?> type) {
+        return readValue(source, token, type, Object.class);
+    }
+
+    private static Object readValue(JsonTokenSource source, JsonToken token, Class<?> type, Class<?> elementType) {
+        return readValue(source, token, type, Object.class, elementType);
+    }
+
+    /**
+     * @param keyType     le type des clés si le type demandé est une map, {@code Object.class} s'il n'est pas connu
+     * @param elementType le type des éléments ou des valeurs, {@code Object.class} s'il n'est pas connu
+     */
+    private static Object readValue(JsonTokenSource source, JsonToken token, Class<?> type, Class<?> keyType,
+                                    Class<?> elementType) {
+        if (type == Optional.class || type == OptionalInt.class || type == OptionalLong.class
+                || type == OptionalDouble.class) {
+            return readOptional(source, token, type, elementType);
+        }
+        if (token == JsonToken.NULL) {
+            return null;
+        }
+        if (type == Object.class || type == Number.class) {
+            return readUntyped(source, token);
+        }
+        if (type == String.class) {
+            if (token == JsonToken.BOOLEAN) {
+                return String.valueOf(source.booleanValue());
+            }
+            if (token != JsonToken.NUMBER) {
+                expect(source, token, JsonToken.STRING, type);
+            }
+            return source.stringValue();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            expect(source, token, JsonToken.BOOLEAN, type);
+            return source.booleanValue();
+        }
+        if (type == char.class || type == Character.class) {
+            expect(source, token, JsonToken.STRING, type);
+            String value = source.stringValue();
+            if (value.length() != 1) {
+                throw source.syntaxError("un seul caractère attendu pour le type " + type.getName());
+            }
+            return value.charAt(0);
+        }
+        if (type.isPrimitive() || Number.class.isAssignableFrom(type)) {
+            expect(source, token, JsonToken.NUMBER, type);
+            return readNumber(source, type);
+        }
+        if (type.isEnum()) {
+            expect(source, token, JsonToken.STRING, type);
+            return readEnum(source, type);
+        }
+        if (JsonValueTypes.isTextValue(type)) {
+            expect(source, token, JsonToken.STRING, type);
+            return readTextValue(source, type);
+        }
+        if (type.isArray()) {
+            if (token == JsonToken.BEGIN_OBJECT) {
+                return toArray(readColumnar(source, type.getComponentType()), type.getComponentType());
+            }
+            expect(source, token, JsonToken.BEGIN_ARRAY, type);
+            return readArray(source, type.getComponentType());
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            if (token == JsonToken.BEGIN_OBJECT) {
+                Collection<Object> collection = newCollection(type);
+                collection.addAll(readColumnar(source, elementType));
+                return collection;
+            }
+            expect(source, token, JsonToken.BEGIN_ARRAY, type);
+            return readCollection(source, type, elementType);
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            expect(source, token, JsonToken.BEGIN_OBJECT, type);
+            return readMap(source, type, keyType, elementType);
+        }
+        expect(source, token, JsonToken.BEGIN_OBJECT, type);
+        return readObject(source, type);
+    }
+
+    private static Object readObject(JsonTokenSource source, Class<?> type) {
+        Object instance = newInstance(type);
+        JsonObjectPlan.JsonFieldPlan[] fields = JsonObjectPlan.of(type).fields();
+        int hint = 0;
+        while (source.next() == JsonToken.NAME) {
+            int index = findField(source, fields, hint);
+            if (index < 0) {
+                source.skipValue();
+                continue;
+            }
+            // Les champs arrivent généralement dans l'ordre de déclaration : le suivant est essayé en premier
+            hint = index + 1;
+            readField(source, source.next(), instance, fields[index]);
+        }
+        return instance;
+    }
+
+    private static void readField(JsonTokenSource source, JsonToken token, Object instance,
+                                  JsonObjectPlan.JsonFieldPlan field) {
+        Object value = readValue(source, token, field.type(), field.keyType(), field.elementType());
+        if (value != null || !field.type().isPrimitive()) {
+            try {
+                field.set(instance, value);
+            } catch (ReflectionUtil.ReflectionException e) {
+                throw new JsonParsingException("Erreur lors de l'accès au champ " + field.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Lit une collection écrite en colonnes ({@link JsonWriterConfig#columnar()}), l'accolade ouvrante étant déjà
+     * lue. Chaque ligne donne un objet du type des éléments, ou une map si ce type n'est pas précisé.
+     */
+    private static List<Object> readColumnar(JsonTokenSource source, Class<?> elementType) {
+        List<String> columns = null;
+        List<Object> elements = new ArrayList<>();
+        while (source.next() == JsonToken.NAME) {
+            if (columns == null && source.tokenEquals(JsonUtil.COLUMNS.name())) {
+                expect(source, source.next(), JsonToken.BEGIN_ARRAY, String[].class);
+                columns = new ArrayList<>();
+                JsonToken token;
+                while ((token = source.next()) != JsonToken.END_ARRAY) {
+                    expect(source, token, JsonToken.STRING, String.class);
+                    columns.add(source.stringValue());
+                }
+            } else if (columns != null && source.tokenEquals(JsonUtil.ROWS.name())) {
+                expect(source, source.next(), JsonToken.BEGIN_ARRAY, List.class);
+                JsonToken token;
+                while ((token = source.next()) != JsonToken.END_ARRAY) {
+                    elements.add(token == JsonToken.NULL ? null : readRow(source, token, columns, elementType));
+                }
+            } else {
+                throw source.syntaxError("\"" + JsonUtil.COLUMNS.name() + "\" puis \"" + JsonUtil.ROWS.name()
+                        + "\" attendus pour une collection en colonnes");
+            }
+        }
+        return elements;
+    }
+
+    private static Object readRow(JsonTokenSource source, JsonToken token, List<String> columns, Class<?> elementType) {
+        expect(source, token, JsonToken.BEGIN_ARRAY, elementType);
+        if (elementType == Object.class || Map.class.isAssignableFrom(elementType)) {
+            Map<Object, Object> map = newMap(elementType);
+            int column = 0;
+            while ((token = source.next()) != JsonToken.END_ARRAY) {
+                Object value = readValue(source, token, Object.class, Object.class);
+                // Comme pour un objet écrit en entier, un champ null est absent de la map
+                if (column < columns.size() && value != null) {
+                    map.put(columns.get(column), value);
+                }
+                column++;
+            }
+            return map;
+        }
+        Object instance = newInstance(elementType);
+        JsonObjectPlan.JsonFieldPlan[] fields = JsonObjectPlan.of(elementType).fields();
+        int column = 0;
+        while ((token = source.next()) != JsonToken.END_ARRAY) {
+            int index = column < columns.size() ? findField(fields, columns.get(column), column) : -1;
+            if (index < 0) {
+                source.skipValue(token);
+            } else {
+                readField(source, token, instance, fields[index]);
+            }
+            column++;
+        }
+        return instance;
+    }
+
+    private static int findField(JsonObjectPlan.JsonFieldPlan[] fields, String name, int hint) {
+        int length = fields.length;
+        for (int i = 0; i < length; i++) {
+            int index = (hint + i) % length;
+            if (fields[index].name().equals(name)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int findField(JsonTokenSource source, JsonObjectPlan.JsonFieldPlan[] fields, int hint) {
+        int length = fields.length;
+        for (int i = 0; i < length; i++) {
+            int index = (hint + i) % length;
+            if (source.tokenEquals(fields[index].name())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static Object readArray(JsonTokenSource source, Class<?> componentType) {
+        List<Object> elements = new ArrayList<>();
+        JsonToken token;
+        while ((token = source.next()) != JsonToken.END_ARRAY) {
+            elements.add(readValue(source, token, componentType, Object.class));
+        }
+        return toArray(elements, componentType);
+    }
+
+    private static Object toArray(List<Object> elements, Class<?> componentType) {
+        Object array = Array.newInstance(componentType, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Object element = elements.get(i);
+            if (element != null) {
+                Array.set(array, i, element);
+            }
+        }
+        return array;
+    }
+
+    private static Collection<Object> readCollection(JsonTokenSource source, Class<?> type, Class<?> elementType) {
+        Collection<Object> collection = newCollection(type);
+        JsonToken token;
+        while ((token = source.next()) != JsonToken.END_ARRAY) {
+            collection.add(readValue(source, token, elementType, Object.class));
+        }
+        return collection;
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            return ReflectionUtil.getInstantiator(type).newInstance();
+        } catch (ReflectionUtil.ReflectionException e) {
+            throw new JsonParsingException("Impossible d'instancier la classe " + type.getName(), e);
+        }
+    }
+
+    private static Collection<Object> newCollection(Class<?> type) {
+        Collection<Object> collection = type == Collection.class || type == Iterable.class
+                ? new ArrayList<>()
+                : ReflectionUtil.createCollection(type);
+        if (collection == null) {
+            throw new JsonParsingException("Impossible d'instancier la collection " + type.getName());
+        }
+        return collection;
+    }
+
+    /**
+     * @param keyType   le type des clés, {@code Object.class} s'il n'est pas connu
+     * @param valueType le type des valeurs, {@code Object.class} s'il n'est pas connu
+     */
+    private static Map<Object, Object> readMap(JsonTokenSource source, Class<?> type, Class<?> keyType,
+                                               Class<?> valueType) {
+        Map<Object, Object> map = newMap(type);
+        while (source.next() == JsonToken.NAME) {
+            Object key = readKey(source, keyType);
+            map.put(key, readValue(source, source.next(), valueType, Object.class));
+        }
+        return map;
+    }
+
+    /**
+     * Convertit le nom d'une entrée de map, écrit par {@code String.valueOf} (ou {@code name()} pour une
+     * énumération), dans le type des clés.
+     *
+     * @throws JsonParsingException si le nom n'est pas au format du type, ou si le type de clé n'est pas supporté
+     */
+    private static Object readKey(JsonTokenSource source, Class<?> keyType) {
+        String key = source.stringValue();
+        if (keyType == Object.class || keyType == String.class || keyType == CharSequence.class) {
+            return key;
+        }
+        if (keyType.isEnum()) {
+            return readEnum(source, keyType);
+        }
+        try {
+            if (keyType == Integer.class) {
+                return Integer.valueOf(key);
+            }
+            if (keyType == Long.class) {
+                return Long.valueOf(key);
+            }
+            if (keyType == Double.class) {
+                return Double.valueOf(key);
+            }
+            if (keyType == Float.class) {
+                return Float.valueOf(key);
+            }
+            if (keyType == Short.class) {
+                return Short.valueOf(key);
+            }
+            if (keyType == Byte.class) {
+                return Byte.valueOf(key);
+            }
+            if (keyType == BigDecimal.class) {
+                return new BigDecimal(key);
+            }
+            if (keyType == BigInteger.class) {
+                return new BigInteger(key);
+            }
+            if (keyType == Boolean.class && ("true".equals(key) || "false".equals(key))) {
+                return Boolean.valueOf(key);
+            }
+            if (keyType == Character.class && key.length() == 1) {
+                return key.charAt(0);
+            }
+            if (JsonValueTypes.isTextValue(keyType)) {
+                return JsonValueTypes.parse(keyType, key);
+            }
+        } catch (RuntimeException e) {
+            JsonParsingException error = source.syntaxError("clé invalide pour le type " + keyType.getName()
+                    + " : " + key);
+            error.initCause(e);
+            throw error;
+        }
+        if (keyType == Boolean.class || keyType == Character.class) {
+            throw source.syntaxError("clé invalide pour le type " + keyType.getName() + " : " + key);
+        }
+        throw new JsonParsingException("Type de clé de map non supporté : " + keyType.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> newMap(Class<?> type) {
+        Map<Object, Object> map = type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type == Object.class
+                ? new LinkedHashMap<>()
+                : (Map<Object, Object>) ReflectionUtil.createInstance(type);
+        if (map == null) {
+            throw new JsonParsingException("Impossible d'instancier la map " + type.getName());
+        }
+        return map;
+    }
+
+    private static Object readUntyped(JsonTokenSource source, JsonToken token) {
+        switch (token) {
+            case BEGIN_OBJECT:
+                return readMap(source, Map.class, Object.class, Object.class);
+            case BEGIN_ARRAY:
+                return readCollection(source, List.class, Object.class);
+            case STRING:
+                return source.stringValue();
+            case BOOLEAN:
+                return source.booleanValue();
+            case NUMBER:
+                return source.numberValue();
+            default:
+                throw source.syntaxError("valeur attendue");
+        }
+    }
+
+    private static Object readNumber(JsonTokenSource source, Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return (int) readIntegral(source, Integer.MIN_VALUE, Integer.MAX_VALUE, type);
+        }
+        if (type == long.class || type == Long.class) {
+            return source.longValue();
+        }
+        if (type == double.class || type == Double.class) {
+            return source.doubleValue();
+        }
+        if (type == float.class || type == Float.class) {
+            return (float) source.doubleValue();
+        }
+        if (type == short.class || type == Short.class) {
+            return (short) readIntegral(source, Short.MIN_VALUE, Short.MAX_VALUE, type);
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (byte) readIntegral(source, Byte.MIN_VALUE, Byte.MAX_VALUE, type);
+        }
+        if (type == BigDecimal.class) {
+            return source.bigDecimalValue();
+        }
+        if (type == BigInteger.class) {
+            try {
+                return source.bigDecimalValue().toBigIntegerExact();
+            } catch (ArithmeticException e) {
+                throw source.syntaxError("nombre entier attendu pour le type " + type.getName());
+            }
+        }
+        throw new JsonParsingException("Type numérique non supporté : " + type.getName());
+    }
+
+    /**
+     * Lit la valeur d'un {@code Optional} : null donne un {@code Optional} vide.
+     */
+    private static Object readOptional(JsonTokenSource source, JsonToken token, Class<?> type, Class<?> elementType) {
+        boolean empty = token == JsonToken.NULL;
+        if (type == OptionalInt.class) {
+            return empty ? OptionalInt.empty() : OptionalInt.of((int) readValue(source, token, int.class));
+        }
+        if (type == OptionalLong.class) {
+            return empty ? OptionalLong.empty() : OptionalLong.of((long) readValue(source, token, long.class));
+        }
+        if (type == OptionalDouble.class) {
+            return empty ? OptionalDouble.empty() : OptionalDouble.of((double) readValue(source, token, double.class));
+        }
+        return Optional.ofNullable(readValue(source, token, elementType, Object.class));
+    }
+
+    private static Object readTextValue(JsonTokenSource source, Class<?> type) {
+        try {
+            return JsonValueTypes.parse(type, source.stringValue());
+        } catch (RuntimeException e) {
+            JsonParsingException error = source.syntaxError("valeur invalide pour le type " + type.getName()
+                    + " : " + source.stringValue());
+            error.initCause(e);
+            throw error;
+        }
+    }
+
+    private static long readIntegral(JsonTokenSource source, long min, long max, Class<?> type) {
+        long value = source.longValue();
+        if (value < min || value > max) {
+            throw source.syntaxError("nombre hors limites pour le type " + type.getName() + " : " + value);
+        }
+        return value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readEnum(JsonTokenSource source, Class<?> type) {
+        try {
+            return Enum.valueOf((Class<? extends Enum>) type, source.stringValue());
+        } catch (IllegalArgumentException e) {
+            throw source.syntaxError("constante inconnue pour l'énumération " + type.getName() + " : " + source.stringValue());
+        }
+    }
+
+    private static void expect(JsonTokenSource source, JsonToken actual, JsonToken expected, Class<?> type) {
+        if (actual != expected) {
+            throw source.syntaxError(expected + " attendu pour le type " + type.getName() + " mais " + actual + " trouvé");
+        }
+    }
+}
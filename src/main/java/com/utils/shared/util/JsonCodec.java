@@ -0,0 +1,22 @@
+package com.utils.shared.util;
+
+/**
+ * Codec JSON d'une classe, généré à la compilation pour les classes annotées
+ * {@link com.utils.shared.annotation.JsonSerializable}.
+ * <p>
+ * Le codec n'écrit que les champs : les accolades, l'indentation et la détection des cycles restent à la charge de
+ * {@link JsonUtil}. Comme la réflexion, il écrit la valeur des champs (un getter n'est appelé que s'il renvoie le champ
+ * tel quel), dans le même ordre : le JSON est identique, que le codec ait été généré ou non.
+ *
+ * @param <T> le type sérialisé
+ */
+public interface JsonCodec<T> {
+
+    /**
+     * Écrit les champs d'un objet, dans l'ordre de déclaration.
+     *
+     * @param value  l'objet à écrire
+     * @param writer le contexte d'écriture
+     */
+    void writeFields(T value, JsonWriter writer);
+}
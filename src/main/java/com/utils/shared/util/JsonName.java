@@ -0,0 +1,62 @@
+package com.utils.shared.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Nom de champ JSON pré-encodé.
+ * <p>
+ * Le nom est échappé une seule fois, à la création : écrire un champ revient ensuite à ajouter une chaîne
+ * {@code "nom":} déjà prête au buffer, quel que soit le nombre d'objets sérialisés. Les codecs générés déclarent
+ * une constante par champ et le plan de sérialisation par réflexion en conserve une par champ.
+ */
+public final class JsonName {
+
+    private final String name;
+    private final String token;
+    private final String indentedToken;
+    private final byte[] utf8;
+
+    private JsonName(String name) {
+        this.name = name;
+        this.token = "\"" + StringUtil.escapeJson(name) + "\":";
+        this.indentedToken = token + " ";
+        this.utf8 = name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Pré-encode un nom de champ. Destiné à l'initialisation de constantes : le nom n'est pas mis en cache.
+     *
+     * @param name le nom du champ
+     * @return le nom pré-encodé
+     */
+    public static JsonName of(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Le nom d'un champ JSON ne peut pas être null");
+        }
+        return new JsonName(name);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @param indented true si l'écriture est indentée
+     * @return le nom échappé, entre guillemets et suivi de ':' (et d'un espace en mode indenté)
+     */
+    String token(boolean indented) {
+        return indented ? indentedToken : token;
+    }
+
+    /**
+     * @return le nom encodé en UTF-8, pour l'encodage binaire
+     */
+    byte[] utf8() {
+        return utf8;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
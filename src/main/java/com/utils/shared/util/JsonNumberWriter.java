@@ -0,0 +1,390 @@
+package com.utils.shared.util;
+
+import java.math.BigInteger;
+
+/**
+ * Écriture des nombres JSON directement dans un buffer, sans objet intermédiaire.
+ * <p>
+ * Les entiers sont convertis deux chiffres à la fois à l'aide d'une table de paires de chiffres.
+ * Les doubles et les floats utilisent l'algorithme Schubfach (R. Giulietti, « The Schubfach way to render doubles »)
+ * qui produit la plus courte représentation décimale relisible à l'identique, au format de
+ * {@link Double#toString(double)} et {@link Float#toString(float)}.
+ * Les valeurs NaN et infinies, qui n'ont pas de représentation JSON, sont écrites {@code null}.
+ */
+final class JsonNumberWriter {
+
+    /**
+     * Taille minimale du buffer de travail passé aux méthodes d'écriture.
+     */
+    static final int SCRATCH_SIZE = 32;
+
+    private static final char[] DIGIT_PAIRS = new char[200];
+
+    /* Constantes de l'algorithme Schubfach pour le format binary64 */
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final int BQ_MASK = 0x7FF;
+    private static final long T_MASK = (1L << (P - 1)) - 1;
+    private static final long C_TINY = 3;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    /* Constantes de l'algorithme Schubfach pour le format binary32 */
+    private static final int FLOAT_P = 24;
+    private static final int FLOAT_Q_MIN = -149;
+    private static final int FLOAT_C_MIN = 1 << (FLOAT_P - 1);
+    private static final int FLOAT_BQ_MASK = 0xFF;
+    private static final int FLOAT_T_MASK = (1 << (FLOAT_P - 1)) - 1;
+    private static final int FLOAT_C_TINY = 8;
+    private static final long MASK_32 = (1L << 32) - 1;
+
+    /**
+     * Approximations 126 bits de 10^(-k), pour k dans [K_MIN, K_MAX], sous la forme g1 2^63 + g0.
+     */
+    private static final long[] G = new long[(K_MAX - K_MIN + 1) << 1];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[i << 1] = (char) ('0' + i / 10);
+            DIGIT_PAIRS[(i << 1) + 1] = (char) ('0' + i % 10);
+        }
+        // g = floor(10^(-k) 2^(-r)) + 1, avec r tel que 2^125 <= g < 2^126
+        BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int shift = 125 - flog2pow10(-k);
+            BigInteger g;
+            if (k <= 0) {
+                BigInteger pow = BigInteger.TEN.pow(-k);
+                g = shift >= 0 ? pow.shiftLeft(shift) : pow.shiftRight(-shift);
+            } else {
+                g = BigInteger.ONE.shiftLeft(shift).divide(BigInteger.TEN.pow(k));
+            }
+            g = g.add(BigInteger.ONE);
+            G[(k - K_MIN) << 1] = g.shiftRight(63).longValue();
+            G[((k - K_MIN) << 1) | 1] = g.and(mask63).longValue();
+        }
+    }
+
+    private JsonNumberWriter() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+
+    /**
+     * Écrit un entier.
+     *
+     * @param out     le buffer de sortie
+     * @param value   la valeur à écrire
+     * @param scratch un buffer de travail d'au moins {@link #SCRATCH_SIZE} caractères
+     */
+    static void writeLong(StringBuilder out, long value, char[] scratch) {
+        int start = getChars(value, SCRATCH_SIZE, scratch);
+        out.append(scratch, start, SCRATCH_SIZE - start);
+    }
+
+    /**
+     * Écrit un double avec la plus courte représentation relisible à l'identique, ou {@code null} s'il n'est pas fini.
+     *
+     * @param out     le buffer de sortie
+     * @param value   la valeur à écrire
+     * @param scratch un buffer de travail d'au moins {@link #SCRATCH_SIZE} caractères
+     */
+    static void writeDouble(StringBuilder out, double value, char[] scratch) {
+        long bits = Double.doubleToRawLongBits(value);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bq == BQ_MASK) {
+            out.append("null");
+            return;
+        }
+        if (bits < 0) {
+            out.append('-');
+        }
+        if (bq != 0) {
+            // Valeur normale
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                // Entier exact : pas besoin d'arrondi
+                long f = c >> mq;
+                if (f << mq == c) {
+                    toChars(out, f, 0, scratch);
+                    return;
+                }
+            }
+            toDecimal(out, -mq, c, 0, scratch);
+        } else if (t != 0) {
+            // Valeur dénormalisée
+            if (t < C_TINY) {
+                toDecimal(out, Q_MIN, 10 * t, -1, scratch);
+            } else {
+                toDecimal(out, Q_MIN, t, 0, scratch);
+            }
+        } else {
+            out.append("0.0");
+        }
+    }
+
+    /**
+     * Écrit un float avec la plus courte représentation relisible à l'identique, ou {@code null} s'il n'est pas fini.
+     *
+     * @param out     le buffer de sortie
+     * @param value   la valeur à écrire
+     * @param scratch un buffer de travail d'au moins {@link #SCRATCH_SIZE} caractères
+     */
+    static void writeFloat(StringBuilder out, float value, char[] scratch) {
+        int bits = Float.floatToRawIntBits(value);
+        int t = bits & FLOAT_T_MASK;
+        int bq = (bits >>> (FLOAT_P - 1)) & FLOAT_BQ_MASK;
+        if (bq == FLOAT_BQ_MASK) {
+            out.append("null");
+            return;
+        }
+        if (bits < 0) {
+            out.append('-');
+        }
+        if (bq != 0) {
+            // Valeur normale
+            int mq = -FLOAT_Q_MIN + 1 - bq;
+            int c = FLOAT_C_MIN | t;
+            if (0 < mq && mq < FLOAT_P) {
+                // Entier exact : pas besoin d'arrondi
+                int f = c >> mq;
+                if (f << mq == c) {
+                    toChars(out, f, 0, scratch);
+                    return;
+                }
+            }
+            toDecimal(out, -mq, c, 0, scratch);
+        } else if (t != 0) {
+            // Valeur dénormalisée
+            if (t < FLOAT_C_TINY) {
+                toDecimal(out, FLOAT_Q_MIN, 10 * t, -1, scratch);
+            } else {
+                toDecimal(out, FLOAT_Q_MIN, t, 0, scratch);
+            }
+        } else {
+            out.append("0.0");
+        }
+    }
+
+    /**
+     * Calcule la plus courte décimale f 10^e de l'intervalle d'arrondi de c 2^q (figure 7 de l'article).
+     */
+    private static void toDecimal(StringBuilder out, int q, long c, int dk, char[] scratch) {
+        int parity = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN) {
+            // Espacement régulier
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // Espacement irrégulier, à la frontière d'une puissance de deux
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        long g1 = G[(k - K_MIN) << 1];
+        long g0 = G[((k - K_MIN) << 1) | 1];
+
+        long vb = roundToOdd(g1, g0, cb << h);
+        long vbl = roundToOdd(g1, g0, cbl << h);
+        long vbr = roundToOdd(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // s' = floor(s / 10), calculé par multiplication
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + parity <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + parity <= vbr;
+            if (upin != wpin) {
+                toChars(out, upin ? sp10 : tp10, k, scratch);
+                return;
+            }
+        }
+
+        long t = s + 1;
+        boolean uin = vbl + parity <= s << 2;
+        boolean win = (t << 2) + parity <= vbr;
+        if (uin != win) {
+            toChars(out, uin ? s : t, k + dk, scratch);
+            return;
+        }
+        // Les deux candidats sont dans l'intervalle : le plus proche l'emporte, le pair en cas d'égalité
+        long cmp = vb - ((s + t) << 1);
+        toChars(out, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, scratch);
+    }
+
+    /**
+     * Calcule l'arrondi impair de cp g 2^(-127), avec g = g1 2^63 + g0.
+     */
+    private static long roundToOdd(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+
+    /**
+     * Variante binary32 de {@link #toDecimal(StringBuilder, int, long, int, char[])} : les 63 bits de poids fort de g
+     * suffisent à la précision d'un float.
+     */
+    private static void toDecimal(StringBuilder out, int q, int c, int dk, char[] scratch) {
+        int parity = c & 0x1;
+        long cb = (long) c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != FLOAT_C_MIN || q == FLOAT_Q_MIN) {
+            // Espacement régulier
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // Espacement irrégulier, à la frontière d'une puissance de deux
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 33;
+
+        long g = G[(k - K_MIN) << 1] + 1;
+
+        int vb = roundToOdd(g, cb << h);
+        int vbl = roundToOdd(g, cbl << h);
+        int vbr = roundToOdd(g, cbr << h);
+
+        int s = vb >> 2;
+        if (s >= 100) {
+            // s' = floor(s / 10), calculé par multiplication
+            int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + parity <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + parity <= vbr;
+            if (upin != wpin) {
+                toChars(out, upin ? sp10 : tp10, k, scratch);
+                return;
+            }
+        }
+
+        int t = s + 1;
+        boolean uin = vbl + parity <= s << 2;
+        boolean win = (t << 2) + parity <= vbr;
+        if (uin != win) {
+            toChars(out, uin ? s : t, k + dk, scratch);
+            return;
+        }
+        // Les deux candidats sont dans l'intervalle : le plus proche l'emporte, le pair en cas d'égalité
+        int cmp = vb - ((s + t) << 1);
+        toChars(out, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, scratch);
+    }
+
+    /**
+     * Calcule l'arrondi impair de cp g 2^(-95).
+     */
+    private static int roundToOdd(long g, long cp) {
+        long x1 = Math.multiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+        return (int) (vbp | ((x1 & MASK_32) + MASK_32) >>> 32);
+    }
+
+    /**
+     * Écrit f 10^e au format de {@link Double#toString(double)}, qui est aussi celui de {@link Float#toString(float)}.
+     */
+    private static void toChars(StringBuilder out, long f, int e, char[] scratch) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int start = getChars(f, SCRATCH_SIZE, scratch);
+        int length = SCRATCH_SIZE - start;
+        // La valeur vaut 0.d1d2...dn 10^exponent
+        int exponent = e + length;
+        if (0 < exponent && exponent <= 7) {
+            if (length <= exponent) {
+                out.append(scratch, start, length);
+                for (int i = length; i < exponent; i++) {
+                    out.append('0');
+                }
+                out.append(".0");
+            } else {
+                out.append(scratch, start, exponent).append('.').append(scratch, start + exponent, length - exponent);
+            }
+        } else if (-3 < exponent && exponent <= 0) {
+            out.append("0.");
+            for (int i = exponent; i < 0; i++) {
+                out.append('0');
+            }
+            out.append(scratch, start, length);
+        } else {
+            out.append(scratch[start]).append('.');
+            if (length > 1) {
+                out.append(scratch, start + 1, length - 1);
+            } else {
+                out.append('0');
+            }
+            out.append('E');
+            int end = getChars(exponent - 1, SCRATCH_SIZE, scratch);
+            out.append(scratch, end, SCRATCH_SIZE - end);
+        }
+    }
+
+    /**
+     * Écrit les chiffres d'un entier à la fin d'une zone du buffer de travail, deux chiffres à la fois.
+     * Le calcul se fait sur la valeur négative pour traiter {@link Long#MIN_VALUE}.
+     *
+     * @return l'indice du premier caractère écrit
+     */
+    private static int getChars(long value, int end, char[] buffer) {
+        int position = end;
+        boolean negative = value < 0;
+        long i = negative ? value : -value;
+        while (i <= Integer.MIN_VALUE) {
+            long q = i / 100;
+            int r = (int) (q * 100 - i);
+            i = q;
+            buffer[--position] = DIGIT_PAIRS[(r << 1) + 1];
+            buffer[--position] = DIGIT_PAIRS[r << 1];
+        }
+        int j = (int) i;
+        while (j <= -100) {
+            int q = j / 100;
+            int r = q * 100 - j;
+            j = q;
+            buffer[--position] = DIGIT_PAIRS[(r << 1) + 1];
+            buffer[--position] = DIGIT_PAIRS[r << 1];
+        }
+        if (j <= -10) {
+            int r = -j;
+            buffer[--position] = DIGIT_PAIRS[(r << 1) + 1];
+            buffer[--position] = DIGIT_PAIRS[r << 1];
+        } else {
+            buffer[--position] = (char) ('0' - j);
+        }
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        return position;
+    }
+
+    /* floor(log10(2^e)) */
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /* floor(log10(3/4 2^e)) */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /* floor(log2(10^e)) */
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
@@ -0,0 +1,181 @@
+package com.utils.shared.util;
+
+import com.utils.shared.annotation.JsonSerializable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plan de sérialisation JSON précompilé pour une classe.
+ * <p>
+ * Le plan contient la liste des champs sérialisables déjà rendus accessibles, champs hérités compris
+ * ({@link ReflectionUtil#getAllFields(Class)}), et leurs noms déjà encodés ({@link JsonName}).
+ * Il est construit une seule fois par classe puis réutilisé par tous les appels à {@link JsonUtil#toJson(Object)}
+ * et {@link JsonUtil#fromJson(String, Class)}.
+ */
+final class JsonObjectPlan {
+
+    /**
+     * Le cache n'empêche pas le déchargement des classes sérialisées, de leurs accesseurs et de leur codec généré.
+     */
+    private static final ClassValue<JsonObjectPlan> PLANS = new ClassValue<JsonObjectPlan>() {
+        @Override
+        protected JsonObjectPlan computeValue(Class<?> type) {
+            return new JsonObjectPlan(type);
+        }
+    };
+
+    private final JsonFieldPlan[] fields;
+    private final JsonFieldPlan[] sortedFields;
+    private final JsonCodec<Object> codec;
+
+    private JsonObjectPlan(Class<?> clazz) {
+        List<JsonFieldPlan> fieldPlans = new ArrayList<>();
+        // Champs non statiques hérités compris, déjà rendus accessibles, les champs inaccessibles (modules fermés)
+        // étant ignorés
+        for (Field field : ClassMetadata.of(clazz).allFields()) {
+            fieldPlans.add(new JsonFieldPlan(clazz, field));
+        }
+        this.fields = fieldPlans.toArray(new JsonFieldPlan[0]);
+        fieldPlans.sort(Comparator.comparing(JsonFieldPlan::name));
+        this.sortedFields = fieldPlans.toArray(new JsonFieldPlan[0]);
+        this.codec = clazz.isAnnotationPresent(JsonSerializable.class) ? loadCodec(clazz) : null;
+    }
+
+    /**
+     * Charge le codec généré par {@link com.utils.shared.annotation.processor.JsonCodecAnnotationProcessor}.
+     *
+     * @return le codec, ou null s'il n'a pas été généré (processeur d'annotations non exécuté)
+     */
+    @SuppressWarnings("unchecked")
+    private static JsonCodec<Object> loadCodec(Class<?> clazz) {
+        try {
+            Class<?> codecClass = Class.forName(codecClassName(clazz), true, clazz.getClassLoader());
+            return (JsonCodec<Object>) codecClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Nom du codec généré : {@code Commande} donne {@code CommandeJsonCodec}, {@code Commande.Ligne} donne
+     * {@code Commande_LigneJsonCodec}, dans le paquetage de la classe.
+     *
+     * @param clazz la classe annotée
+     * @return le nom qualifié du codec
+     */
+    static String codecClassName(Class<?> clazz) {
+        return clazz.getName().replace('$', '_') + "JsonCodec";
+    }
+
+    /**
+     * Obtient le plan de sérialisation d'une classe, en le construisant au premier appel.
+     *
+     * @param clazz la classe pour laquelle obtenir le plan
+     * @return le plan de sérialisation associé à la classe
+     */
+    static JsonObjectPlan of(Class<?> clazz) {
+        return PLANS.get(clazz);
+    }
+
+    /**
+     * @return le codec généré pour la classe, ou null si elle est sérialisée par réflexion
+     */
+    JsonCodec<Object> codec() {
+        return codec;
+    }
+
+    JsonFieldPlan[] fields() {
+        return fields;
+    }
+
+    /**
+     * @param keyOrder l'ordre d'écriture des clés
+     * @return les champs dans l'ordre demandé
+     */
+    JsonFieldPlan[] fields(JsonWriterConfig.KeyOrder keyOrder) {
+        return keyOrder == JsonWriterConfig.KeyOrder.ALPHABETICAL ? sortedFields : fields;
+    }
+
+    /**
+     * Champ résolu d'un plan de sérialisation.
+     */
+    static final class JsonFieldPlan {
+        private final Field field;
+        private final FieldAccessor accessor;
+        private final String name;
+        private final JsonName jsonName;
+        private final Class<?> type;
+        private final Class<?> keyType;
+        private final Class<?> elementType;
+
+        /**
+         * @param owner la classe sérialisée, par rapport à laquelle les types génériques du champ sont résolus
+         * @param field le champ
+         */
+        private JsonFieldPlan(Class<?> owner, Field field) {
+            this.field = field;
+            this.accessor = FieldAccessor.of(field);
+            this.name = field.getName();
+            this.jsonName = JsonName.of(name);
+            Type resolved = TypeResolver.resolve(owner, field);
+            this.type = TypeResolver.rawType(resolved);
+            this.keyType = Map.class.isAssignableFrom(type)
+                    ? TypeResolver.typeArgument(resolved, Map.class, 0)
+                    : Object.class;
+            this.elementType = TypeResolver.elementType(owner, field);
+        }
+
+        String name() {
+            return name;
+        }
+
+        /**
+         * @return la classe du champ, celle de la variable de type si elle est liée par la classe sérialisée
+         */
+        Class<?> type() {
+            return type;
+        }
+
+        /**
+         * @return le type des clés si le champ est une map, {@code Object.class} sinon
+         */
+        Class<?> keyType() {
+            return keyType;
+        }
+
+        /**
+         * @return le type des éléments si le champ est une collection ou un tableau, celui de la valeur si c'est un
+         * {@code Optional} ou une map, {@code Object.class} sinon
+         */
+        Class<?> elementType() {
+            return elementType;
+        }
+
+        /**
+         * @return le nom du champ pré-encodé
+         */
+        JsonName jsonName() {
+            return jsonName;
+        }
+
+        /**
+         * @throws ReflectionUtil.ReflectionException si l'objet n'a pas ce champ
+         */
+        Object get(Object object) {
+            return accessor.get(object);
+        }
+
+        /**
+         * @throws ReflectionUtil.ReflectionException si le champ est final et inaccessible, ou si la valeur n'est pas
+         *                                            du type du champ
+         */
+        void set(Object object, Object value) {
+            accessor.set(object, value);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.utils.shared.util;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Objets en cours d'écriture, de la racine du graphe vers l'objet courant, pour la détection des cycles.
+ * <p>
+ * Les graphes sont le plus souvent des arbres peu profonds : les {@link #STACK_SIZE} premiers niveaux sont suivis
+ * dans une pile parcourue par identité, sans hachage ni allocation. Au-delà, une table d'identité prend le relais.
+ */
+final class JsonPath {
+
+    /**
+     * Profondeur jusqu'à laquelle les objets en cours d'écriture sont suivis dans une simple pile.
+     */
+    static final int STACK_SIZE = 16;
+
+    private final Object[] stack = new Object[STACK_SIZE];
+    private int depth;
+    private Map<Object, Object> deepObjects;
+
+    /**
+     * Entre dans l'écriture d'un objet, sauf s'il est déjà en cours d'écriture plus haut dans le graphe.
+     *
+     * @param object l'objet à écrire
+     * @return false si l'objet forme un cycle et ne doit pas être écrit, true sinon
+     */
+    boolean enter(Object object) {
+        int stacked = Math.min(depth, STACK_SIZE);
+        for (int i = 0; i < stacked; i++) {
+            if (stack[i] == object) {
+                return false;
+            }
+        }
+        if (depth < STACK_SIZE) {
+            stack[depth] = object;
+        } else {
+            if (deepObjects == null) {
+                deepObjects = new IdentityHashMap<>();
+            }
+            if (deepObjects.putIfAbsent(object, Boolean.TRUE) != null) {
+                return false;
+            }
+        }
+        depth++;
+        return true;
+    }
+
+    /**
+     * Sort de l'écriture d'un objet pour lequel {@link #enter(Object)} a renvoyé true.
+     *
+     * @param object l'objet écrit
+     */
+    void exit(Object object) {
+        depth--;
+        if (depth < STACK_SIZE) {
+            stack[depth] = null;
+        } else {
+            deepObjects.remove(object);
+        }
+    }
+
+    /**
+     * Recopie les objets en cours d'écriture dans un autre suivi, vide.
+     *
+     * @param target le suivi à initialiser
+     */
+    void copyTo(JsonPath target) {
+        System.arraycopy(stack, 0, target.stack, 0, Math.min(depth, STACK_SIZE));
+        target.depth = depth;
+        if (deepObjects != null && !deepObjects.isEmpty()) {
+            target.deepObjects = new IdentityHashMap<>(deepObjects);
+        }
+    }
+
+    /**
+     * Vide le suivi, par exemple après une écriture interrompue par une exception.
+     */
+    void clear() {
+        if (depth > 0) {
+            Arrays.fill(stack, null);
+            if (deepObjects != null) {
+                deepObjects.clear();
+            }
+            depth = 0;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.JsonUtil.JsonParsingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lecteur JSON incrémental : le document est parcouru jeton par jeton, à la demande.
+ * <p>
+ * La source est lue par blocs et seul le jeton courant est conservé en mémoire : un document de plusieurs
+ * gigaoctets peut être parcouru en mémoire constante. Exemple, pour traiter un tableau d'objets volumineux :
+ * <pre>{@code
+ * try (JsonReader reader = new JsonReader(new FileInputStream(path))) {
+ *     reader.nextToken(); // BEGIN_ARRAY
+ *     while (reader.hasNext()) {
+ *         Commande commande = reader.readValue(Commande.class);
+ *     }
+ * }
+ * }</pre>
+ * Les erreurs de lecture de la source sont propagées sous forme d'{@link UncheckedIOException}.
+ */
+public final class JsonReader implements Closeable {
+
+    private final Reader source;
+    private final JsonTokenizer tokenizer;
+    private JsonToken peeked;
+
+    /**
+     * Crée un lecteur sur une source de caractères.
+     *
+     * @param reader la source du JSON
+     */
+    public JsonReader(Reader reader) {
+        this.source = reader;
+        this.tokenizer = new JsonTokenizer(reader);
+    }
+
+    /**
+     * Crée un lecteur sur un flux d'octets encodé en UTF-8.
+     *
+     * @param in le flux du JSON
+     */
+    public JsonReader(InputStream in) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Consulte le prochain jeton sans le consommer.
+     *
+     * @return le prochain jeton
+     * @throws JsonParsingException si le document est mal formé
+     */
+    public JsonToken peek() {
+        if (peeked == null) {
+            peeked = tokenizer.next();
+        }
+        return peeked;
+    }
+
+    /**
+     * Consomme le prochain jeton. Sa valeur éventuelle reste lisible jusqu'à l'appel suivant.
+     *
+     * @return le jeton consommé
+     * @throws JsonParsingException si le document est mal formé
+     */
+    public JsonToken nextToken() {
+        JsonToken token = peek();
+        peeked = null;
+        return token;
+    }
+
+    /**
+     * Indique si l'objet ou le tableau courant contient encore un élément.
+     *
+     * @return false si le prochain jeton termine l'objet, le tableau ou le document, true sinon
+     */
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    /**
+     * Consomme un nom de champ.
+     *
+     * @return le nom du champ
+     * @throws JsonParsingException si le prochain jeton n'est pas {@link JsonToken#NAME}
+     */
+    public String readName() {
+        consume(JsonToken.NAME);
+        return tokenizer.stringValue();
+    }
+
+    /**
+     * Consomme une chaîne de caractères.
+     *
+     * @return la chaîne décodée
+     * @throws JsonParsingException si le prochain jeton n'est pas {@link JsonToken#STRING}
+     */
+    public String readString() {
+        consume(JsonToken.STRING);
+        return tokenizer.stringValue();
+    }
+
+    /**
+     * Consomme un nombre entier.
+     *
+     * @return la valeur du nombre
+     * @throws JsonParsingException si le prochain jeton n'est pas un nombre entier représentable sur un long
+     */
+    public long readLong() {
+        consume(JsonToken.NUMBER);
+        return tokenizer.longValue();
+    }
+
+    /**
+     * Consomme un nombre.
+     *
+     * @return la valeur du nombre
+     * @throws JsonParsingException si le prochain jeton n'est pas {@link JsonToken#NUMBER}
+     */
+    public double readDouble() {
+        consume(JsonToken.NUMBER);
+        return tokenizer.doubleValue();
+    }
+
+    /**
+     * Consomme un nombre en conservant sa valeur exacte.
+     *
+     * @return la valeur exacte du nombre
+     * @throws JsonParsingException si le prochain jeton n'est pas {@link JsonToken#NUMBER}
+     */
+    public BigDecimal readBigDecimal() {
+        consume(JsonToken.NUMBER);
+        return tokenizer.bigDecimalValue();
+    }
+
+    /**
+     * Consomme un booléen.
+     *
+     * @return la valeur du booléen
+     * @throws JsonParsingException si le prochain jeton n'est pas {@link JsonToken#BOOLEAN}
+     */
+    public boolean readBoolean() {
+        consume(JsonToken.BOOLEAN);
+        return tokenizer.booleanValue();
+    }
+
+    /**
+     * Consomme le littéral {@code null}.
+     *
+     * @throws JsonParsingException si le prochain jeton n'est pas {@link JsonToken#NULL}
+     */
+    public void readNull() {
+        consume(JsonToken.NULL);
+    }
+
+    /**
+     * Ignore la prochaine valeur, y compris tout son contenu s'il s'agit d'un objet ou d'un tableau.
+     *
+     * @throws JsonParsingException si le document est mal formé ou si aucune valeur ne suit
+     */
+    public void skipValue() {
+        tokenizer.skipValue(nextToken());
+    }
+
+    /**
+     * Consomme la prochaine valeur et la convertit dans le type demandé, comme le ferait
+     * {@link JsonUtil#fromJson(String, Class)}.
+     *
+     * @param type la classe de l'objet à créer
+     * @param <T>  le type de l'objet
+     * @return l'objet lu, ou null pour le littéral {@code null}
+     * @throws JsonParsingException si la valeur est mal formée ou incompatible avec le type demandé
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Class<T> type) {
+        return (T) JsonBinder.readValue(tokenizer, nextToken(), type);
+    }
+
+    /**
+     * Ferme la source du JSON.
+     *
+     * @throws IOException si une erreur se produit lors de la fermeture
+     */
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private void consume(JsonToken expected) {
+        JsonToken token = nextToken();
+        if (token != expected) {
+            throw tokenizer.syntaxError(expected + " attendu mais " + token + " trouvé");
+        }
+    }
+}
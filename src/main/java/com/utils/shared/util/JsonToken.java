@@ -0,0 +1,19 @@
+package com.utils.shared.util;
+
+/**
+ * Jetons produits par l'analyse d'un document JSON.
+ *
+ * @see JsonReader
+ */
+public enum JsonToken {
+    BEGIN_OBJECT,
+    END_OBJECT,
+    BEGIN_ARRAY,
+    END_ARRAY,
+    NAME,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL,
+    END_DOCUMENT
+}
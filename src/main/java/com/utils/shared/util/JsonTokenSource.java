@@ -0,0 +1,111 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.JsonUtil.JsonParsingException;
+
+import java.math.BigDecimal;
+
+/**
+ * Source de jetons JSON consommée par {@link JsonBinder} : texte JSON ({@link JsonTokenizer}) ou encodage binaire
+ * ({@link JsonBinaryReader}).
+ * <p>
+ * Les accesseurs de valeur portent sur le dernier jeton renvoyé par {@link #next()}.
+ */
+interface JsonTokenSource {
+
+    /**
+     * Lit le jeton suivant.
+     *
+     * @return le jeton lu, {@link JsonToken#END_DOCUMENT} à la fin du document
+     * @throws JsonParsingException si le document est mal formé
+     */
+    JsonToken next();
+
+    /**
+     * Ignore la prochaine valeur, y compris tout son contenu s'il s'agit d'un objet ou d'un tableau.
+     *
+     * @throws JsonParsingException si le document est mal formé ou si aucune valeur ne suit
+     */
+    default void skipValue() {
+        skipValue(next());
+    }
+
+    /**
+     * Ignore la fin d'une valeur dont le premier jeton a déjà été lu.
+     *
+     * @param token le premier jeton de la valeur
+     * @throws JsonParsingException si le document est mal formé ou si le jeton ne commence pas une valeur
+     */
+    default void skipValue(JsonToken token) {
+        int count = 0;
+        while (true) {
+            if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT) {
+                count++;
+            } else if (token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT) {
+                count--;
+            } else if (token == JsonToken.END_DOCUMENT) {
+                throw syntaxError("fin de document inattendue");
+            } else if (token == JsonToken.NAME && count == 0) {
+                throw syntaxError("valeur attendue");
+            }
+            if (count <= 0) {
+                break;
+            }
+            token = next();
+        }
+        if (count < 0) {
+            throw syntaxError("valeur attendue");
+        }
+    }
+
+    /**
+     * @return le texte du jeton courant ({@link JsonToken#NAME}, {@link JsonToken#STRING} ou {@link JsonToken#NUMBER})
+     */
+    String stringValue();
+
+    /**
+     * Compare le texte du jeton courant à une chaîne, si possible sans allocation.
+     *
+     * @param value la chaîne à comparer
+     * @return true si le jeton courant a exactement ce texte, false sinon
+     */
+    boolean tokenEquals(String value);
+
+    boolean booleanValue();
+
+    /**
+     * @return true si le nombre courant ne comporte ni partie décimale ni exposant
+     */
+    boolean isIntegral();
+
+    /**
+     * @return la valeur du nombre courant
+     * @throws JsonParsingException si le nombre n'est pas un entier représentable sur un long
+     */
+    long longValue();
+
+    /**
+     * @return la valeur du nombre courant
+     */
+    double doubleValue();
+
+    /**
+     * @return la valeur exacte du nombre courant
+     */
+    BigDecimal bigDecimalValue();
+
+    /**
+     * Convertit le nombre courant sans type cible : {@link Integer} ou {@link Long} si possible, sinon
+     * {@link java.math.BigInteger} pour un entier et {@link Double} pour un décimal.
+     *
+     * @return la valeur du nombre courant
+     */
+    Number numberValue();
+
+    /**
+     * Construit une exception décrivant une erreur à la position courante.
+     *
+     * @param message la description de l'erreur
+     * @return l'exception à lever
+     */
+    JsonParsingException syntaxError(String message);
+}
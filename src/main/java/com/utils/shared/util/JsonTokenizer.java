@@ -0,0 +1,495 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.JsonUtil.JsonParsingException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Analyseur lexical JSON en une seule passe.
+ * <p>
+ * Les jetons sont lus directement dans le buffer d'entrée : une chaîne ou un nombre est exposé sous la forme
+ * d'une zone du buffer ({@code tokenStart}, {@code tokenLength}) sans allocation de sous-chaîne. Les séquences
+ * d'échappement sont décodées sur place, le texte décodé n'étant jamais plus long que le texte source.
+ * La zone d'un jeton reste valide jusqu'au prochain appel à {@link #next()}.
+ * <p>
+ * Lorsque l'entrée est un {@link Reader}, le buffer est rechargé par blocs : seule la taille du plus grand jeton
+ * peut le faire grossir.
+ */
+final class JsonTokenizer implements JsonTokenSource {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final Reader reader;
+    private char[] buffer;
+    private int pos;
+    private int limit;
+    private long offset;
+
+    private int[] scopes = new int[32];
+    private int depth = 1;
+
+    private int tokenStart = -1;
+    private int tokenLength;
+    private boolean integral;
+    private boolean booleanValue;
+
+    /**
+     * Crée un analyseur sur une chaîne JSON complète.
+     *
+     * @param json la chaîne JSON à analyser
+     */
+    JsonTokenizer(String json) {
+        this.reader = null;
+        this.buffer = json.toCharArray();
+        this.limit = buffer.length;
+    }
+
+    /**
+     * Crée un analyseur lisant le JSON au fil de l'eau depuis un {@link Reader}.
+     *
+     * @param reader la source du JSON
+     */
+    JsonTokenizer(Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * Lit le jeton suivant.
+     *
+     * @return le jeton lu, {@link JsonToken#END_DOCUMENT} à la fin du document
+     * @throws JsonParsingException si le document est mal formé
+     */
+    @Override
+    public JsonToken next() {
+        tokenStart = -1;
+        int scope = scopes[depth - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_ARRAY:
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                if (peekNonWhitespace() == ']') {
+                    pos++;
+                    depth--;
+                    return JsonToken.END_ARRAY;
+                }
+                break;
+            case NONEMPTY_ARRAY:
+                c = peekNonWhitespace();
+                if (c == ']') {
+                    pos++;
+                    depth--;
+                    return JsonToken.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("',' ou ']' attendu");
+                }
+                pos++;
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = peekNonWhitespace();
+                if (c == '}') {
+                    pos++;
+                    depth--;
+                    return JsonToken.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("',' ou '}' attendu");
+                    }
+                    pos++;
+                    c = peekNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("nom de champ attendu");
+                }
+                pos++;
+                scopes[depth - 1] = DANGLING_NAME;
+                readString();
+                return JsonToken.NAME;
+            case DANGLING_NAME:
+                if (peekNonWhitespace() != ':') {
+                    throw syntaxError("':' attendu");
+                }
+                pos++;
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                break;
+            case EMPTY_DOCUMENT:
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                if (peekNonWhitespace() != -1) {
+                    throw syntaxError("contenu inattendu après la fin du document");
+                }
+                return JsonToken.END_DOCUMENT;
+        }
+        return readValue();
+    }
+
+    /**
+     * @return le texte du jeton courant ({@link JsonToken#NAME}, {@link JsonToken#STRING} ou {@link JsonToken#NUMBER})
+     */
+    @Override
+    public String stringValue() {
+        return new String(buffer, tokenStart, tokenLength);
+    }
+
+    /**
+     * Compare le texte du jeton courant à une chaîne, sans allocation.
+     *
+     * @param value la chaîne à comparer
+     * @return true si le jeton courant a exactement ce texte, false sinon
+     */
+    @Override
+    public boolean tokenEquals(String value) {
+        if (value.length() != tokenLength) {
+            return false;
+        }
+        for (int i = 0; i < tokenLength; i++) {
+            if (buffer[tokenStart + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int tokenLength() {
+        return tokenLength;
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return booleanValue;
+    }
+
+    /**
+     * @return true si le nombre courant ne comporte ni partie décimale ni exposant
+     */
+    @Override
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * @return la valeur du nombre courant
+     * @throws JsonParsingException si le nombre n'est pas un entier représentable sur un long
+     */
+    @Override
+    public long longValue() {
+        if (integral && tokenLength <= 18) {
+            int i = tokenStart;
+            int end = tokenStart + tokenLength;
+            boolean negative = buffer[i] == '-';
+            if (negative) {
+                i++;
+            }
+            long value = 0;
+            for (; i < end; i++) {
+                value = value * 10 + (buffer[i] - '0');
+            }
+            return negative ? -value : value;
+        }
+        try {
+            return bigDecimalValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw syntaxError("nombre entier hors limites : " + stringValue());
+        }
+    }
+
+    /**
+     * @return la valeur du nombre courant
+     */
+    @Override
+    public double doubleValue() {
+        if (integral && tokenLength <= 15) {
+            // Moins de 15 chiffres : la valeur est exactement représentable, sauf -0 qui reste négatif en double
+            long value = longValue();
+            return value == 0 && buffer[tokenStart] == '-' ? -0.0 : value;
+        }
+        return Double.parseDouble(stringValue());
+    }
+
+    /**
+     * @return la valeur exacte du nombre courant, lue directement dans le buffer
+     */
+    @Override
+    public BigDecimal bigDecimalValue() {
+        return new BigDecimal(buffer, tokenStart, tokenLength);
+    }
+
+    /**
+     * @return le nombre courant en {@link Integer} ou {@link Long} s'il est entier et assez petit, en
+     * {@link java.math.BigInteger} au-delà de 18 chiffres, en {@link Double} s'il est décimal
+     */
+    @Override
+    public Number numberValue() {
+        if (!integral) {
+            return doubleValue();
+        }
+        if (tokenLength > 18) {
+            return bigDecimalValue().toBigInteger();
+        }
+        long value = longValue();
+        return (int) value == value ? (Number) (int) value : (Number) value;
+    }
+
+    /**
+     * Construit une exception décrivant une erreur à la position courante.
+     *
+     * @param message la description de l'erreur
+     * @return l'exception à lever
+     */
+    @Override
+    public JsonParsingException syntaxError(String message) {
+        return new JsonParsingException("Erreur de syntaxe JSON à la position " + (offset + pos) + " : " + message);
+    }
+
+    private JsonToken readValue() {
+        int c = peekNonWhitespace();
+        switch (c) {
+            case '{':
+                pos++;
+                push(EMPTY_OBJECT);
+                return JsonToken.BEGIN_OBJECT;
+            case '[':
+                pos++;
+                push(EMPTY_ARRAY);
+                return JsonToken.BEGIN_ARRAY;
+            case '"':
+                pos++;
+                readString();
+                return JsonToken.STRING;
+            case 't':
+                readLiteral("true");
+                booleanValue = true;
+                return JsonToken.BOOLEAN;
+            case 'f':
+                readLiteral("false");
+                booleanValue = false;
+                return JsonToken.BOOLEAN;
+            case 'n':
+                readLiteral("null");
+                return JsonToken.NULL;
+            case -1:
+                throw syntaxError("fin de document inattendue");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber();
+                    return JsonToken.NUMBER;
+                }
+                throw syntaxError("valeur attendue");
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    private int peekNonWhitespace() {
+        while (pos < limit || fill(1)) {
+            char c = buffer[pos];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    private void readLiteral(String literal) {
+        int length = literal.length();
+        if (limit - pos < length && !fill(length)) {
+            throw syntaxError("fin de document inattendue");
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[pos + i] != literal.charAt(i)) {
+                throw syntaxError("valeur attendue");
+            }
+        }
+        pos += length;
+    }
+
+    /**
+     * Lit une chaîne dont le guillemet ouvrant a déjà été consommé, en décodant les échappements sur place.
+     */
+    private void readString() {
+        tokenStart = pos;
+        int length = 0;
+        boolean escaped = false;
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                throw syntaxError("chaîne non terminée");
+            }
+            char c = buffer[pos++];
+            if (c == '"') {
+                tokenLength = length;
+                return;
+            }
+            if (c == '\\') {
+                c = readEscapedChar();
+                escaped = true;
+            } else if (c < 0x20) {
+                throw syntaxError("caractère de contrôle non échappé dans une chaîne");
+            }
+            if (escaped) {
+                buffer[tokenStart + length] = c;
+            }
+            length++;
+        }
+    }
+
+    private char readEscapedChar() {
+        if (pos == limit && !fill(1)) {
+            throw syntaxError("chaîne non terminée");
+        }
+        char c = buffer[pos++];
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (limit - pos < 4 && !fill(4)) {
+                    throw syntaxError("séquence \\u incomplète");
+                }
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(buffer[pos++], 16);
+                    if (digit < 0) {
+                        throw syntaxError("séquence \\u invalide");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw syntaxError("séquence d'échappement invalide : \\" + c);
+        }
+    }
+
+    private void readNumber() {
+        tokenStart = pos;
+        integral = true;
+        while (pos < limit || fill(1)) {
+            char c = buffer[pos];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+                pos++;
+            } else if (c == '.' || c == 'e' || c == 'E') {
+                integral = false;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        tokenLength = pos - tokenStart;
+        if (!isValidNumber()) {
+            throw syntaxError("nombre invalide : " + stringValue());
+        }
+    }
+
+    private boolean isValidNumber() {
+        int i = tokenStart;
+        int end = tokenStart + tokenLength;
+        if (buffer[i] == '-') {
+            i++;
+        }
+        if (i < end && buffer[i] == '0') {
+            i++;
+        } else {
+            int digitsStart = i;
+            i = skipDigits(i, end);
+            if (i == digitsStart) {
+                return false;
+            }
+        }
+        if (i < end && buffer[i] == '.') {
+            int digitsStart = ++i;
+            i = skipDigits(i, end);
+            if (i == digitsStart) {
+                return false;
+            }
+        }
+        if (i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            i++;
+            if (i < end && (buffer[i] == '+' || buffer[i] == '-')) {
+                i++;
+            }
+            int digitsStart = i;
+            i = skipDigits(i, end);
+            if (i == digitsStart) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    private int skipDigits(int i, int end) {
+        while (i < end && buffer[i] >= '0' && buffer[i] <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Recharge le buffer depuis le {@link Reader} jusqu'à disposer d'au moins {@code needed} caractères non lus.
+     * Les caractères déjà consommés sont supprimés, sauf ceux du jeton en cours de lecture.
+     *
+     * @param needed le nombre de caractères non lus requis
+     * @return true si les caractères requis sont disponibles, false si la fin de l'entrée est atteinte
+     */
+    private boolean fill(int needed) {
+        if (reader == null) {
+            return false;
+        }
+        int keep = tokenStart >= 0 ? tokenStart : pos;
+        if (keep > 0) {
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            limit -= keep;
+            pos -= keep;
+            offset += keep;
+            if (tokenStart >= 0) {
+                tokenStart -= keep;
+            }
+        }
+        try {
+            while (limit - pos < needed) {
+                if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                int read = reader.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    return false;
+                }
+                limit += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+}
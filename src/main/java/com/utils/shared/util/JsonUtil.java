@@ -1,18 +1,68 @@
 package com.utils.shared.util;
 
-import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.IdentityHashMap;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Classe utilitaire pour la conversion d'objets en format JSON et vice versa.
  */
 public class JsonUtil {
 
-    private static final int INDENTATION_SPACES = 2;
+    private static final JsonWriterConfig COMPACT = new JsonWriterConfig();
+    private static final JsonWriterConfig INDENTED = new JsonWriterConfig().indent(2);
+    private static final int PARALLEL_CHUNKS_PER_THREAD = 4;
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 256;
+
+    /* Clés d'une collection écrite en colonnes */
+    static final JsonName COLUMNS = JsonName.of("columns");
+    static final JsonName ROWS = JsonName.of("rows");
+
+    /* Écritures natives, une par famille de types */
+    private static final ValueWriter STRING_WRITER =
+            (value, writer, level) -> appendString((String) value, writer.buffer());
+    private static final ValueWriter NUMBER_WRITER =
+            (value, writer, level) -> appendNumber((Number) value, writer);
+    private static final ValueWriter BOOLEAN_WRITER =
+            (value, writer, level) -> writer.buffer().append((boolean) (Boolean) value);
+    private static final ValueWriter CHARACTER_WRITER =
+            (value, writer, level) -> appendString(value.toString(), writer.buffer());
+    private static final ValueWriter COLLECTION_WRITER =
+            (value, writer, level) -> toJsonCollection((Collection<?>) value, writer, level);
+    private static final ValueWriter ARRAY_WRITER = JsonUtil::toJsonArray;
+    private static final ValueWriter MAP_WRITER =
+            (value, writer, level) -> toJsonMap((Map<?, ?>) value, writer, level);
+    private static final ValueWriter TEXT_VALUE_WRITER =
+            (value, writer, level) -> appendString(JsonValueTypes.toText(value), writer.buffer());
+    private static final ValueWriter OPTIONAL_WRITER =
+            (value, writer, level) -> toJson(unwrapOptional(value), writer, level);
+    private static final ValueWriter OBJECT_WRITER = JsonUtil::toJsonCustomObject;
+
+    private static final Map<Class<?>, JsonAdapter<Object>> adapters = new ConcurrentHashMap<>();
+
+    /* Remplacé à chaque enregistrement : une classe déjà résolue est résolue de nouveau au prochain appel */
+    private static volatile ClassValue<ValueWriter> valueWriters = newValueWriters();
 
     private JsonUtil() {
         // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
@@ -36,32 +86,246 @@ public class JsonUtil {
      * @return la représentation JSON de l'objet
      */
     public static String toJson(Object object, boolean indent) {
-        StringBuilder jsonBuilder = new StringBuilder();
-        toJson(object, jsonBuilder, indent ? 0 : -1, new IdentityHashMap<>());
-        return jsonBuilder.toString();
+        return toJson(object, indent ? INDENTED : COMPACT);
     }
 
-    private static void toJson(Object object, StringBuilder jsonBuilder, int indentationLevel, Map<Object, Object> processedObjects) {
+    /**
+     * Convertit un objet en format JSON selon une configuration d'écriture.
+     *
+     * @param object l'objet à convertir
+     * @param config la configuration d'écriture (indentation, fin de ligne, ordre des clés)
+     * @return la représentation JSON de l'objet
+     */
+    public static String toJson(Object object, JsonWriterConfig config) {
+        JsonWriter writer = JsonWriter.acquire(null, config);
+        try {
+            toJson(object, writer, config.isIndented() ? 0 : -1);
+            return writer.buffer().toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    /**
+     * Écrit la représentation JSON d'un objet dans une destination, au fil de la sérialisation.
+     * <p>
+     * Le JSON n'est jamais entièrement matérialisé en mémoire : il est transmis à la destination par blocs
+     * d'environ {@value JsonWriter#FLUSH_THRESHOLD} caractères. La destination n'est ni vidée ni fermée.
+     *
+     * @param object l'objet à convertir
+     * @param out    la destination du JSON
+     * @param indent true pour l'indentation, false sinon
+     * @throws IOException si une erreur d'écriture se produit
+     */
+    public static void toJson(Object object, Appendable out, boolean indent) throws IOException {
+        toJson(object, out, indent ? INDENTED : COMPACT);
+    }
+
+    /**
+     * Écrit la représentation JSON d'un objet dans une destination selon une configuration d'écriture.
+     *
+     * @param object l'objet à convertir
+     * @param out    la destination du JSON
+     * @param config la configuration d'écriture
+     * @throws IOException si une erreur d'écriture se produit
+     * @see #toJson(Object, Appendable, boolean)
+     */
+    public static void toJson(Object object, Appendable out, JsonWriterConfig config) throws IOException {
+        JsonWriter writer = JsonWriter.acquire(out, config);
+        try {
+            toJson(object, writer, config.isIndented() ? 0 : -1);
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            writer.release();
+        }
+    }
+
+    /**
+     * Écrit la représentation JSON d'un objet, encodée en UTF-8, dans un flux de sortie.
+     * <p>
+     * Le flux est vidé à la fin de l'écriture mais n'est pas fermé.
+     *
+     * @param object l'objet à convertir
+     * @param out    le flux de sortie
+     * @param indent true pour l'indentation, false sinon
+     * @throws IOException si une erreur d'écriture se produit
+     */
+    public static void toJson(Object object, OutputStream out, boolean indent) throws IOException {
+        toJson(object, out, indent ? INDENTED : COMPACT);
+    }
+
+    /**
+     * Écrit la représentation JSON d'un objet, encodée en UTF-8, dans un flux de sortie selon une configuration
+     * d'écriture. Le flux est vidé à la fin de l'écriture mais n'est pas fermé.
+     *
+     * @param object l'objet à convertir
+     * @param out    le flux de sortie
+     * @param config la configuration d'écriture
+     * @throws IOException si une erreur d'écriture se produit
+     */
+    public static void toJson(Object object, OutputStream out, JsonWriterConfig config) throws IOException {
+        Writer streamWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        toJson(object, streamWriter, config);
+        streamWriter.flush();
+    }
+
+    static void toJson(Object object, JsonWriter writer, int indentationLevel) {
         if (object == null) {
-            jsonBuilder.append("null");
-        } else if (object instanceof String) {
-            jsonBuilder.append("\"").append(StringUtil.escape((String) object)).append("\"");
-        } else if (object instanceof Number || object instanceof Boolean) {
-            jsonBuilder.append(object);
-        } else if (object instanceof Character) {
-            jsonBuilder.append("\"").append(StringUtil.escape(object.toString())).append("\"");
-        } else if (object instanceof Collection) {
-            toJsonCollection((Collection<?>) object, jsonBuilder, indentationLevel, processedObjects);
-        } else if (object.getClass().isArray()) {
-            toJsonArray(object, jsonBuilder, indentationLevel, processedObjects);
-        } else if (object instanceof Map) {
-            toJsonMap((Map<?, ?>) object, jsonBuilder, indentationLevel, processedObjects);
+            writer.buffer().append("null");
         } else {
-            toJsonCustomObject(object, jsonBuilder, indentationLevel, processedObjects);
+            valueWriters.get(object.getClass()).write(object, writer, indentationLevel);
+        }
+    }
+
+    /**
+     * Enregistre un adaptateur d'écriture pour une classe, ses sous-classes et, pour une interface, ses
+     * implémentations. L'adaptateur remplace l'écriture par défaut, y compris pour les types gérés nativement.
+     * <p>
+     * L'adaptateur d'une classe est prioritaire sur celui d'une superclasse, lui-même prioritaire sur celui d'une
+     * interface. Les champs de type {@code String} ou primitif des codecs générés et l'encodage binaire
+     * ({@link #toBinary(Object)}) n'utilisent pas les adaptateurs. L'enregistrement est destiné à l'initialisation
+     * de l'application : il invalide le cache de résolution de toutes les classes.
+     *
+     * @param type    la classe ou l'interface concernée
+     * @param adapter l'adaptateur d'écriture
+     * @param <T>     le type écrit
+     * @throws IllegalArgumentException si le type ou l'adaptateur est null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void register(Class<T> type, JsonAdapter<T> adapter) {
+        if (type == null || adapter == null) {
+            throw new IllegalArgumentException("Le type et l'adaptateur sont requis");
+        }
+        adapters.put(type, (JsonAdapter<Object>) adapter);
+        valueWriters = newValueWriters();
+    }
+
+    /**
+     * Retire l'adaptateur enregistré pour une classe : ses valeurs sont de nouveau écrites par défaut.
+     *
+     * @param type la classe ou l'interface concernée
+     */
+    public static void unregister(Class<?> type) {
+        if (adapters.remove(type) != null) {
+            valueWriters = newValueWriters();
         }
     }
 
-    private static void toJsonCollection(Collection<?> collection, StringBuilder jsonBuilder, int indentationLevel, Map<Object, Object> processedObjects) {
+    /**
+     * Écriture d'une valeur non null d'une classe donnée, résolue une seule fois par classe.
+     */
+    private interface ValueWriter {
+        void write(Object value, JsonWriter writer, int indentationLevel);
+    }
+
+    private static ClassValue<ValueWriter> newValueWriters() {
+        return new ClassValue<ValueWriter>() {
+            @Override
+            protected ValueWriter computeValue(Class<?> type) {
+                JsonAdapter<Object> adapter = findAdapter(type);
+                if (adapter != null) {
+                    return (value, writer, level) -> writer.writeAdapted(adapter, value, level);
+                }
+                return builtInWriter(type);
+            }
+        };
+    }
+
+    private static JsonAdapter<Object> findAdapter(Class<?> type) {
+        if (adapters.isEmpty()) {
+            return null;
+        }
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            JsonAdapter<Object> adapter = adapters.get(current);
+            if (adapter != null) {
+                return adapter;
+            }
+        }
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> implemented : current.getInterfaces()) {
+                JsonAdapter<Object> adapter = findInterfaceAdapter(implemented);
+                if (adapter != null) {
+                    return adapter;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static JsonAdapter<Object> findInterfaceAdapter(Class<?> type) {
+        JsonAdapter<Object> adapter = adapters.get(type);
+        if (adapter != null) {
+            return adapter;
+        }
+        for (Class<?> parent : type.getInterfaces()) {
+            adapter = findInterfaceAdapter(parent);
+            if (adapter != null) {
+                return adapter;
+            }
+        }
+        return null;
+    }
+
+    private static ValueWriter builtInWriter(Class<?> type) {
+        if (type == String.class) {
+            return STRING_WRITER;
+        } else if (Number.class.isAssignableFrom(type)) {
+            return NUMBER_WRITER;
+        } else if (type == Boolean.class) {
+            return BOOLEAN_WRITER;
+        } else if (type == Character.class) {
+            return CHARACTER_WRITER;
+        } else if (Collection.class.isAssignableFrom(type)) {
+            return COLLECTION_WRITER;
+        } else if (type.isArray()) {
+            return ARRAY_WRITER;
+        } else if (Map.class.isAssignableFrom(type)) {
+            return MAP_WRITER;
+        } else if (JsonValueTypes.isTextValue(type)) {
+            return TEXT_VALUE_WRITER;
+        } else if (type == Optional.class || type == OptionalInt.class || type == OptionalLong.class
+                || type == OptionalDouble.class) {
+            return OPTIONAL_WRITER;
+        }
+        return OBJECT_WRITER;
+    }
+
+    static boolean isOptional(Object object) {
+        return object instanceof Optional || object instanceof OptionalInt || object instanceof OptionalLong
+                || object instanceof OptionalDouble;
+    }
+
+    /**
+     * @return la valeur contenue dans un {@code Optional}, {@code OptionalInt}, {@code OptionalLong} ou
+     * {@code OptionalDouble}, null s'il est vide
+     */
+    static Object unwrapOptional(Object optional) {
+        if (optional instanceof Optional) {
+            return ((Optional<?>) optional).orElse(null);
+        }
+        if (optional instanceof OptionalInt) {
+            OptionalInt value = (OptionalInt) optional;
+            return value.isPresent() ? value.getAsInt() : null;
+        }
+        if (optional instanceof OptionalLong) {
+            OptionalLong value = (OptionalLong) optional;
+            return value.isPresent() ? value.getAsLong() : null;
+        }
+        OptionalDouble value = (OptionalDouble) optional;
+        return value.isPresent() ? value.getAsDouble() : null;
+    }
+
+    private static void toJsonCollection(Collection<?> collection, JsonWriter writer, int indentationLevel) {
+        if (writer.config().isColumnar() && toJsonColumnar(collection, writer, indentationLevel)) {
+            return;
+        }
+        if (writer.config().isParallel(collection.size())) {
+            toJsonParallel(collection.toArray(), writer, indentationLevel);
+            return;
+        }
+        StringBuilder jsonBuilder = writer.buffer();
         jsonBuilder.append("[");
         boolean first = true;
         for (Object item : collection) {
@@ -69,116 +333,511 @@ public class JsonUtil {
                 jsonBuilder.append(",");
             }
             if (indentationLevel >= 0) {
-                jsonBuilder.append("\n");
-                appendIndentation(jsonBuilder, indentationLevel + 1);
+                writer.newLine(indentationLevel + 1);
             }
-            toJson(item, jsonBuilder, indentationLevel >= 0 ? indentationLevel + 1 : -1, processedObjects);
+            toJson(item, writer, indentationLevel >= 0 ? indentationLevel + 1 : -1);
             first = false;
+            writer.flushIfNeeded();
         }
         if (indentationLevel >= 0 && !first) {
-            jsonBuilder.append("\n");
-            appendIndentation(jsonBuilder, indentationLevel);
+            writer.newLine(indentationLevel);
         }
         jsonBuilder.append("]");
     }
 
-    private static void toJsonArray(Object array, StringBuilder jsonBuilder, int indentationLevel, Map<Object, Object> processedObjects) {
+    private static void toJsonArray(Object array, JsonWriter writer, int indentationLevel) {
+        if (array.getClass().getComponentType().isPrimitive()) {
+            toJsonPrimitiveArray(array, writer, indentationLevel);
+            return;
+        }
+        Object[] elements = (Object[]) array;
+        if (writer.config().isColumnar() && toJsonColumnar(Arrays.asList(elements), writer, indentationLevel)) {
+            return;
+        }
+        if (writer.config().isParallel(elements.length)) {
+            toJsonParallel(elements, writer, indentationLevel);
+            return;
+        }
+        StringBuilder jsonBuilder = writer.buffer();
         jsonBuilder.append("[");
-        int length = Array.getLength(array);
-        for (int i = 0; i < length; i++) {
+        for (int i = 0; i < elements.length; i++) {
+            appendArrayElementPrefix(writer, i, indentationLevel);
+            toJson(elements[i], writer, indentationLevel >= 0 ? indentationLevel + 1 : -1);
+            writer.flushIfNeeded();
+        }
+        appendArrayEnd(writer, elements.length, indentationLevel);
+    }
+
+    /**
+     * Écrit une collection d'objets de la même classe en colonnes : noms des champs une seule fois, puis une ligne
+     * de valeurs compactes par élément (voir {@link JsonWriterConfig#columnar()}).
+     *
+     * @return false, sans rien écrire, si les éléments ne sont pas tous des objets non null de la même classe
+     */
+    private static boolean toJsonColumnar(Collection<?> elements, JsonWriter writer, int indentationLevel) {
+        Class<?> elementClass = commonObjectClass(elements);
+        if (elementClass == null) {
+            return false;
+        }
+        JsonObjectPlan.JsonFieldPlan[] fields = JsonObjectPlan.of(elementClass).fields(writer.config().getKeyOrder());
+        boolean indented = indentationLevel >= 0;
+        String separator = indented ? ", " : ",";
+        StringBuilder jsonBuilder = writer.buffer();
+        jsonBuilder.append("{");
+        if (indented) {
+            writer.newLine(indentationLevel + 1);
+        }
+        jsonBuilder.append(COLUMNS.token(indented)).append("[");
+        for (int i = 0; i < fields.length; i++) {
             if (i > 0) {
-                jsonBuilder.append(",");
+                jsonBuilder.append(separator);
             }
-            if (indentationLevel >= 0) {
-                jsonBuilder.append("\n");
-                appendIndentation(jsonBuilder, indentationLevel + 1);
+            appendString(fields[i].name(), jsonBuilder);
+        }
+        jsonBuilder.append("],");
+        if (indented) {
+            writer.newLine(indentationLevel + 1);
+        }
+        jsonBuilder.append(ROWS.token(indented)).append("[");
+        int rowsLevel = indented ? indentationLevel + 1 : -1;
+        int index = 0;
+        for (Object element : elements) {
+            appendArrayElementPrefix(writer, index++, rowsLevel);
+            jsonBuilder.append("[");
+            // Un élément déjà en cours d'écriture donne une ligne vide, comme l'objet vide d'un cycle
+            if (writer.enter(element)) {
+                for (int i = 0; i < fields.length; i++) {
+                    if (i > 0) {
+                        jsonBuilder.append(separator);
+                    }
+                    toJson(fields[i].get(element), writer, -1);
+                }
+                writer.exit(element);
+            }
+            jsonBuilder.append("]");
+            writer.flushIfNeeded();
+        }
+        appendArrayEnd(writer, index, rowsLevel);
+        if (indented) {
+            writer.newLine(indentationLevel);
+        }
+        jsonBuilder.append("}");
+        return true;
+    }
+
+    /**
+     * @return la classe commune des éléments si tous sont des objets écrits champ par champ, null sinon
+     */
+    private static Class<?> commonObjectClass(Collection<?> elements) {
+        Class<?> common = null;
+        for (Object element : elements) {
+            if (element == null) {
+                return null;
             }
-            toJson(Array.get(array, i), jsonBuilder, indentationLevel >= 0 ? indentationLevel + 1 : -1, processedObjects);
+            Class<?> elementClass = element.getClass();
+            if (common == null) {
+                if (!isPlainObject(elementClass)) {
+                    return null;
+                }
+                common = elementClass;
+            } else if (elementClass != common) {
+                return null;
+            }
+        }
+        return common;
+    }
+
+    /**
+     * @return true si {@link #toJson(Object, JsonWriter, int)} écrit les instances de la classe champ par champ
+     */
+    private static boolean isPlainObject(Class<?> clazz) {
+        return valueWriters.get(clazz) == OBJECT_WRITER;
+    }
+
+    /**
+     * Écrit un tableau d'éléments par blocs, chaque bloc étant écrit dans son propre buffer sur le pool configuré.
+     * Les blocs sont concaténés dans l'ordre, avec les mêmes séparateurs et la même indentation qu'une écriture
+     * séquentielle.
+     */
+    private static void toJsonParallel(Object[] elements, JsonWriter writer, int indentationLevel) {
+        JsonWriterConfig config = writer.config();
+        ForkJoinPool pool = config.getParallelPool();
+        int chunkCount = Math.max(1, Math.min(pool.getParallelism() * PARALLEL_CHUNKS_PER_THREAD,
+                elements.length / MIN_PARALLEL_CHUNK_SIZE));
+        int chunkSize = (elements.length + chunkCount - 1) / chunkCount;
+        List<JsonChunkTask> tasks = new ArrayList<>(chunkCount);
+        for (int start = 0; start < elements.length; start += chunkSize) {
+            // Le contexte de chaque bloc est créé ici, tant que les ancêtres en cours d'écriture sont connus
+            tasks.add(new JsonChunkTask(elements, start, Math.min(start + chunkSize, elements.length),
+                    writer.fork(), indentationLevel));
         }
+        if (ForkJoinTask.getPool() == pool) {
+            // Collection imbriquée dans un bloc déjà en cours d'écriture sur le pool
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+        StringBuilder jsonBuilder = writer.buffer();
+        jsonBuilder.append("[");
+        for (JsonChunkTask task : tasks) {
+            jsonBuilder.append(task.join());
+            writer.flushIfNeeded();
+        }
+        appendArrayEnd(writer, elements.length, indentationLevel);
+    }
+
+    /**
+     * Écriture d'un bloc d'éléments consécutifs d'un tableau.
+     */
+    private static final class JsonChunkTask extends RecursiveTask<StringBuilder> {
+        private final Object[] elements;
+        private final int start;
+        private final int end;
+        private final JsonWriter writer;
+        private final int indentationLevel;
+
+        JsonChunkTask(Object[] elements, int start, int end, JsonWriter writer, int indentationLevel) {
+            this.elements = elements;
+            this.start = start;
+            this.end = end;
+            this.writer = writer;
+            this.indentationLevel = indentationLevel;
+        }
+
+        @Override
+        protected StringBuilder compute() {
+            for (int i = start; i < end; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                toJson(elements[i], writer, indentationLevel >= 0 ? indentationLevel + 1 : -1);
+            }
+            return writer.buffer();
+        }
+    }
+
+    /**
+     * Écrit un tableau de primitifs en lisant directement ses éléments, sans passer par {@link java.lang.reflect.Array#get}
+     * ni par un objet enveloppe.
+     */
+    private static void toJsonPrimitiveArray(Object array, JsonWriter writer, int indentationLevel) {
+        StringBuilder jsonBuilder = writer.buffer();
+        char[] scratch = writer.scratch();
+        jsonBuilder.append("[");
+        int length;
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            length = values.length;
+            for (int i = 0; i < length; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                JsonNumberWriter.writeLong(jsonBuilder, values[i], scratch);
+                writer.flushIfNeeded();
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            length = values.length;
+            for (int i = 0; i < length; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                JsonNumberWriter.writeLong(jsonBuilder, values[i], scratch);
+                writer.flushIfNeeded();
+            }
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            length = values.length;
+            for (int i = 0; i < length; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                JsonNumberWriter.writeDouble(jsonBuilder, values[i], scratch);
+                writer.flushIfNeeded();
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            length = values.length;
+            for (int i = 0; i < length; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                JsonNumberWriter.writeFloat(jsonBuilder, values[i], scratch);
+                writer.flushIfNeeded();
+            }
+        } else if (array instanceof boolean[]) {
+            boolean[] values = (boolean[]) array;
+            length = values.length;
+            for (int i = 0; i < length; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                jsonBuilder.append(values[i]);
+                writer.flushIfNeeded();
+            }
+        } else if (array instanceof char[]) {
+            char[] values = (char[]) array;
+            length = values.length;
+            for (int i = 0; i < length; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                appendString(String.valueOf(values[i]), jsonBuilder);
+                writer.flushIfNeeded();
+            }
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            length = values.length;
+            for (int i = 0; i < length; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                JsonNumberWriter.writeLong(jsonBuilder, values[i], scratch);
+                writer.flushIfNeeded();
+            }
+        } else {
+            byte[] values = (byte[]) array;
+            length = values.length;
+            for (int i = 0; i < length; i++) {
+                appendArrayElementPrefix(writer, i, indentationLevel);
+                JsonNumberWriter.writeLong(jsonBuilder, values[i], scratch);
+                writer.flushIfNeeded();
+            }
+        }
+        appendArrayEnd(writer, length, indentationLevel);
+    }
+
+    /**
+     * Écrit un nombre. Les types primitifs enveloppés sont écrits sans chaîne intermédiaire ; les valeurs
+     * flottantes NaN et infinies, qui n'ont pas de représentation JSON, sont écrites {@code null}.
+     */
+    private static void appendNumber(Number number, JsonWriter writer) {
+        StringBuilder jsonBuilder = writer.buffer();
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            JsonNumberWriter.writeLong(jsonBuilder, number.longValue(), writer.scratch());
+        } else if (number instanceof Double) {
+            JsonNumberWriter.writeDouble(jsonBuilder, number.doubleValue(), writer.scratch());
+        } else if (number instanceof Float) {
+            JsonNumberWriter.writeFloat(jsonBuilder, number.floatValue(), writer.scratch());
+        } else {
+            jsonBuilder.append(number);
+        }
+    }
+
+    private static void appendArrayElementPrefix(JsonWriter writer, int index, int indentationLevel) {
+        if (index > 0) {
+            writer.buffer().append(",");
+        }
+        if (indentationLevel >= 0) {
+            writer.newLine(indentationLevel + 1);
+        }
+    }
+
+    private static void appendArrayEnd(JsonWriter writer, int length, int indentationLevel) {
         if (indentationLevel >= 0 && length > 0) {
-            jsonBuilder.append("\n");
-            appendIndentation(jsonBuilder, indentationLevel);
+            writer.newLine(indentationLevel);
         }
-        jsonBuilder.append("]");
+        writer.buffer().append("]");
     }
 
-    private static void toJsonMap(Map<?, ?> map, StringBuilder jsonBuilder, int indentationLevel, Map<Object, Object> processedObjects) {
+    private static void toJsonMap(Map<?, ?> map, JsonWriter writer, int indentationLevel) {
+        StringBuilder jsonBuilder = writer.buffer();
         jsonBuilder.append("{");
         boolean first = true;
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
+        for (Map.Entry<?, ?> entry : entries(map, writer.config().getKeyOrder())) {
             if (!first) {
                 jsonBuilder.append(",");
             }
             if (indentationLevel >= 0) {
-                jsonBuilder.append("\n");
-                appendIndentation(jsonBuilder, indentationLevel + 1);
+                writer.newLine(indentationLevel + 1);
             }
-            toJson(entry.getKey(), jsonBuilder, indentationLevel >= 0 ? indentationLevel + 1 : -1, processedObjects);
+            // Une clé est toujours un nom JSON : ni adaptateur ni conversion en nombre ou en objet
+            appendString(JsonValueTypes.keyText(entry.getKey()), jsonBuilder);
             jsonBuilder.append(":");
             if (indentationLevel >= 0) {
                 jsonBuilder.append(" ");
             }
-            toJson(entry.getValue(), jsonBuilder, indentationLevel >= 0 ? indentationLevel + 1 : -1, processedObjects);
+            toJson(entry.getValue(), writer, indentationLevel >= 0 ? indentationLevel + 1 : -1);
             first = false;
+            writer.flushIfNeeded();
         }
         if (indentationLevel >= 0 && !first) {
-            jsonBuilder.append("\n");
-            appendIndentation(jsonBuilder, indentationLevel);
+            writer.newLine(indentationLevel);
         }
         jsonBuilder.append("}");
     }
 
-    private static void toJsonCustomObject(Object object, StringBuilder jsonBuilder, int indentationLevel, Map<Object, Object> processedObjects) {
-        if (processedObjects.containsKey(object)) {
+    private static Collection<? extends Map.Entry<?, ?>> entries(Map<?, ?> map, JsonWriterConfig.KeyOrder keyOrder) {
+        if (keyOrder != JsonWriterConfig.KeyOrder.ALPHABETICAL || map.size() < 2) {
+            return map.entrySet();
+        }
+        List<Map.Entry<?, ?>> entries = new ArrayList<>(map.entrySet());
+        entries.sort(Comparator.comparing(entry -> JsonValueTypes.keyText(entry.getKey())));
+        return entries;
+    }
+
+    private static void toJsonCustomObject(Object object, JsonWriter writer, int indentationLevel) {
+        StringBuilder jsonBuilder = writer.buffer();
+        if (!writer.enter(object)) {
             jsonBuilder.append("{}");
             return;
         }
-        processedObjects.put(object, null);
         jsonBuilder.append("{");
+        JsonObjectPlan plan = JsonObjectPlan.of(object.getClass());
+        JsonWriterConfig.KeyOrder keyOrder = writer.config().getKeyOrder();
+        boolean first;
+        if (plan.codec() != null && keyOrder == JsonWriterConfig.KeyOrder.DECLARATION) {
+            // Codec généré : les champs sont écrits dans l'ordre de déclaration, sans réflexion
+            first = !writer.writeFields(plan.codec(), object, indentationLevel);
+        } else {
+            first = toJsonFields(object, plan.fields(keyOrder), writer, indentationLevel);
+        }
+        if (indentationLevel >= 0 && !first) {
+            writer.newLine(indentationLevel);
+        }
+        jsonBuilder.append("}");
+        writer.exit(object);
+    }
+
+    /**
+     * Écrit les champs non null d'un objet par réflexion.
+     *
+     * @return true si aucun champ n'a été écrit
+     */
+    private static boolean toJsonFields(Object object, JsonObjectPlan.JsonFieldPlan[] fields, JsonWriter writer,
+                                        int indentationLevel) {
+        StringBuilder jsonBuilder = writer.buffer();
         boolean first = true;
-        for (Field field : object.getClass().getDeclaredFields()) {
-            if (!Modifier.isStatic(field.getModifiers())) {
-                field.setAccessible(true);
-                try {
-                    Object value = field.get(object);
-                    if (value != null) {
-                        if (!first) {
-                            jsonBuilder.append(",");
-                        }
-                        if (indentationLevel >= 0) {
-                            jsonBuilder.append("\n");
-                            appendIndentation(jsonBuilder, indentationLevel + 1);
-                        }
-                        jsonBuilder.append("\"").append(StringUtil.escape(field.getName())).append("\":");
-                        if (indentationLevel >= 0) {
-                            jsonBuilder.append(" ");
-                        }
-                        toJson(value, jsonBuilder, indentationLevel >= 0 ? indentationLevel + 1 : -1, processedObjects);
-                        first = false;
-                    }
-                } catch (IllegalAccessException e) {
-                    // Ignore inaccessible fields
+        // Les champs inaccessibles ne font pas partie du plan
+        for (JsonObjectPlan.JsonFieldPlan field : fields) {
+            Object value = field.get(object);
+            if (value != null) {
+                if (!first) {
+                    jsonBuilder.append(",");
+                }
+                if (indentationLevel >= 0) {
+                    writer.newLine(indentationLevel + 1);
                 }
+                jsonBuilder.append(field.jsonName().token(indentationLevel >= 0));
+                toJson(value, writer, indentationLevel >= 0 ? indentationLevel + 1 : -1);
+                first = false;
+                writer.flushIfNeeded();
             }
         }
-        if (indentationLevel >= 0 && !first) {
-            jsonBuilder.append("\n");
-            appendIndentation(jsonBuilder, indentationLevel);
+        return first;
+    }
+
+    private static void appendString(String value, StringBuilder jsonBuilder) {
+        jsonBuilder.append('"');
+        StringUtil.escapeJson(value, jsonBuilder);
+        jsonBuilder.append('"');
+    }
+
+    /**
+     * Convertit une chaîne JSON en objet.
+     *
+     * @param json la chaîne JSON à convertir
+     * @param type la classe de l'objet à créer
+     * @param <T>  le type de l'objet
+     * @return l'objet créé à partir du JSON, ou null si le JSON est le littéral {@code null}
+     * @throws JsonParsingException si le JSON est mal formé ou incompatible avec le type demandé
+     */
+    public static <T> T fromJson(String json, Class<T> type) {
+        return read(new JsonTokenizer(json), type);
+    }
+
+    /**
+     * Convertit un JSON encodé en UTF-8 en objet.
+     *
+     * @param json le JSON encodé en UTF-8
+     * @param type la classe de l'objet à créer
+     * @param <T>  le type de l'objet
+     * @return l'objet créé à partir du JSON, ou null si le JSON est le littéral {@code null}
+     * @throws JsonParsingException si le JSON est mal formé ou incompatible avec le type demandé
+     */
+    public static <T> T fromJson(byte[] json, Class<T> type) {
+        Reader reader = new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8);
+        return read(new JsonTokenizer(reader), type);
+    }
+
+    /**
+     * Lit un JSON depuis un {@link Reader} et le convertit en objet.
+     * <p>
+     * Le JSON est lu au fil de l'eau par blocs ; le {@link Reader} n'est pas fermé.
+     *
+     * @param reader la source du JSON
+     * @param type   la classe de l'objet à créer
+     * @param <T>    le type de l'objet
+     * @return l'objet créé à partir du JSON, ou null si le JSON est le littéral {@code null}
+     * @throws IOException          si une erreur de lecture se produit
+     * @throws JsonParsingException si le JSON est mal formé ou incompatible avec le type demandé
+     */
+    public static <T> T fromJson(Reader reader, Class<T> type) throws IOException {
+        try {
+            return read(new JsonTokenizer(reader), type);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-        jsonBuilder.append("}");
-        processedObjects.remove(object);
     }
 
-    private static void appendIndentation(StringBuilder jsonBuilder, int indentationLevel) {
-        for (int i = 0; i < indentationLevel * INDENTATION_SPACES; i++) {
-            jsonBuilder.append(" ");
+    /**
+     * Convertit un objet dans l'encodage binaire compact décrit par {@link JsonBinaryFormat}.
+     * <p>
+     * Les objets, champs et valeurs écrits sont ceux de {@link #toJson(Object)}, mais chaque nom de champ n'est écrit
+     * en entier qu'à sa première apparition et les nombres sont stockés sous forme binaire : une liste d'objets du
+     * même type est nettement plus compacte et plus rapide à relire que son JSON.
+     *
+     * @param object l'objet à convertir
+     * @return le document binaire
+     */
+    public static byte[] toBinary(Object object) {
+        JsonBinaryWriter writer = new JsonBinaryWriter();
+        writer.writeDocument(object);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Écrit l'encodage binaire compact d'un objet dans un flux de sortie, par blocs. Le flux n'est ni vidé ni fermé.
+     *
+     * @param object l'objet à convertir
+     * @param out    le flux de sortie
+     * @throws IOException si une erreur d'écriture se produit
+     * @see #toBinary(Object)
+     */
+    public static void toBinary(Object object, OutputStream out) throws IOException {
+        try {
+            new JsonBinaryWriter(out).writeDocument(object);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Convertit un document binaire produit par {@link #toBinary(Object)} en objet, selon les mêmes règles que
+     * {@link #fromJson(String, Class)}.
+     *
+     * @param data le document binaire
+     * @param type la classe de l'objet à créer
+     * @param <T>  le type de l'objet
+     * @return l'objet créé, ou null si le document contient la valeur null
+     * @throws JsonParsingException si le document est mal formé ou incompatible avec le type demandé
+     */
+    public static <T> T fromBinary(byte[] data, Class<T> type) {
+        return read(new JsonBinaryReader(data), type);
+    }
+
+    /**
+     * Lit un document binaire produit par {@link #toBinary(Object)} depuis un flux et le convertit en objet. Le
+     * flux est lu par blocs et n'est pas fermé.
+     *
+     * @param in   la source du document binaire
+     * @param type la classe de l'objet à créer
+     * @param <T>  le type de l'objet
+     * @return l'objet créé, ou null si le document contient la valeur null
+     * @throws IOException          si une erreur de lecture se produit
+     * @throws JsonParsingException si le document est mal formé ou incompatible avec le type demandé
+     */
+    public static <T> T fromBinary(InputStream in, Class<T> type) throws IOException {
+        try {
+            return read(new JsonBinaryReader(in), type);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> T read(JsonTokenSource source, Class<T> type) {
+        return (T) JsonBinder.read(source, type);
+    }
+
     /**
      * Classe interne représentant une exception spécifique à la conversion JSON.
      */
-    private static class JsonParsingException extends Exception {
+    public static class JsonParsingException extends RuntimeException {
         public JsonParsingException(String message) {
             super(message);
         }
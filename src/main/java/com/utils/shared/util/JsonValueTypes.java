@@ -0,0 +1,94 @@
+package com.utils.shared.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Types valeur écrits en JSON sous forme de chaîne : java.time, {@link UUID} et énumérations.
+ * <p>
+ * Ces classes ne sont jamais parcourues par réflexion : leurs champs internes n'ont pas de sens en JSON et sont
+ * inaccessibles depuis Java 17. Chaque type est écrit par son format ISO 8601 ({@code toString()}, ou
+ * {@code name()} pour une énumération) et relu par la méthode {@code parse} correspondante. La recherche se fait par
+ * classe exacte, les énumérations et les fuseaux horaires étant reconnus à part car leurs constantes et implémentations
+ * peuvent être des sous-classes.
+ */
+final class JsonValueTypes {
+
+    private static final Map<Class<?>, Function<String, Object>> PARSERS = new HashMap<>();
+
+    static {
+        PARSERS.put(LocalDate.class, LocalDate::parse);
+        PARSERS.put(LocalTime.class, LocalTime::parse);
+        PARSERS.put(LocalDateTime.class, LocalDateTime::parse);
+        PARSERS.put(OffsetDateTime.class, OffsetDateTime::parse);
+        PARSERS.put(OffsetTime.class, OffsetTime::parse);
+        PARSERS.put(ZonedDateTime.class, ZonedDateTime::parse);
+        PARSERS.put(Instant.class, Instant::parse);
+        PARSERS.put(Duration.class, Duration::parse);
+        PARSERS.put(Period.class, Period::parse);
+        PARSERS.put(Year.class, Year::parse);
+        PARSERS.put(YearMonth.class, YearMonth::parse);
+        PARSERS.put(MonthDay.class, MonthDay::parse);
+        PARSERS.put(ZoneOffset.class, ZoneOffset::of);
+        PARSERS.put(ZoneId.class, ZoneId::of);
+        PARSERS.put(UUID.class, UUID::fromString);
+    }
+
+    private JsonValueTypes() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+
+    /**
+     * @param clazz la classe d'une valeur à écrire, ou le type d'un champ à lire
+     * @return true si la valeur s'écrit sous forme de chaîne
+     */
+    static boolean isTextValue(Class<?> clazz) {
+        return PARSERS.containsKey(clazz) || Enum.class.isAssignableFrom(clazz) || ZoneId.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * @param value une valeur dont la classe vérifie {@link #isTextValue(Class)}
+     * @return la chaîne à écrire
+     */
+    static String toText(Object value) {
+        // toString() peut être redéfini par une énumération : name() est la forme relue par Enum.valueOf
+        return value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+    }
+
+    /**
+     * @param key une clé de map
+     * @return le nom de l'entrée à écrire, relu par {@link JsonBinder} dans le type des clés
+     */
+    static String keyText(Object key) {
+        return key instanceof Enum ? ((Enum<?>) key).name() : String.valueOf(key);
+    }
+
+    /**
+     * Relit une valeur écrite par {@link #toText(Object)}. Les énumérations sont relues par {@link JsonBinder}.
+     *
+     * @param type le type attendu
+     * @param text la chaîne lue
+     * @return la valeur, ou null si le type n'est pas un type valeur java.time ou UUID
+     * @throws RuntimeException si la chaîne n'est pas au format attendu
+     */
+    static Object parse(Class<?> type, String text) {
+        Function<String, Object> parser = PARSERS.get(type);
+        return parser == null ? null : parser.apply(text);
+    }
+}
@@ -0,0 +1,473 @@
+package com.utils.shared.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Contexte d'écriture d'une sérialisation JSON.
+ * <p>
+ * Le JSON est construit dans un buffer de caractères. Lorsqu'une destination est fournie, le buffer est vidé
+ * vers celle-ci dès qu'il dépasse {@link #FLUSH_THRESHOLD} caractères : la représentation complète n'est
+ * donc jamais matérialisée en mémoire.
+ * <p>
+ * Les méthodes publiques {@code field} sont destinées aux {@link JsonCodec} générés : elles écrivent un champ de
+ * l'objet en cours, avec la virgule et l'indentation attendues. Un champ de valeur null n'est pas écrit. Les
+ * variantes prenant un {@link JsonName} écrivent un nom déjà échappé ; celles prenant un {@code String} l'échappent
+ * à chaque appel. Les méthodes {@code value} et {@link #object(Object, JsonCodec)} sont destinées aux
+ * {@link JsonAdapter} enregistrés.
+ * <p>
+ * Chaque thread conserve un contexte réutilisable, obtenu par {@link #acquire} et rendu par {@link #release()} :
+ * une sérialisation ne réalloue ni le buffer ni la table de détection des cycles. Au-delà de
+ * {@link #MAX_RETAINED_CAPACITY} caractères, le buffer n'est pas conservé afin qu'un document exceptionnellement
+ * volumineux ne reste pas en mémoire.
+ */
+public final class JsonWriter {
+
+    static final int FLUSH_THRESHOLD = 8192;
+
+    /**
+     * Capacité maximale du buffer conservé entre deux sérialisations d'un même thread.
+     */
+    static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<JsonWriter> CACHED_WRITER = ThreadLocal.withInitial(JsonWriter::new);
+
+    private StringBuilder buffer;
+    private Appendable sink;
+    private JsonWriterConfig config;
+    private final JsonPath path = new JsonPath();
+    private final char[] scratch = new char[JsonNumberWriter.SCRATCH_SIZE];
+    private char[] chunk;
+
+    /* Objet dont un codec écrit les champs : profondeur (-1 en mode compact) et absence de champ déjà écrit */
+    private int fieldsLevel = -1;
+    private boolean firstField = true;
+
+    /* Profondeur de la valeur écrite par un adaptateur (-1 en mode compact) */
+    private int valueLevel = -1;
+
+    /* Contexte réutilisable du thread : inUse protège contre une sérialisation imbriquée (toJson appelé depuis un getter) */
+    private final boolean cached;
+    private boolean inUse;
+
+    private JsonWriter() {
+        this.buffer = new StringBuilder(FLUSH_THRESHOLD + FLUSH_THRESHOLD / 2);
+        this.cached = true;
+    }
+
+    /**
+     * Crée un contexte d'écriture en mémoire.
+     *
+     * @param config la configuration de la sérialisation
+     */
+    JsonWriter(JsonWriterConfig config) {
+        this.buffer = new StringBuilder();
+        this.sink = null;
+        this.config = config;
+        this.cached = false;
+    }
+
+    /**
+     * Crée un contexte d'écriture vers une destination.
+     *
+     * @param sink   la destination vers laquelle le buffer est vidé
+     * @param config la configuration de la sérialisation
+     */
+    JsonWriter(Appendable sink, JsonWriterConfig config) {
+        this.buffer = new StringBuilder(FLUSH_THRESHOLD + FLUSH_THRESHOLD / 2);
+        this.sink = sink;
+        this.config = config;
+        this.cached = false;
+    }
+
+    /**
+     * Obtient le contexte d'écriture réutilisable du thread courant, ou un nouveau contexte s'il est déjà utilisé
+     * par une sérialisation en cours. Le contexte doit être rendu par {@link #release()}.
+     *
+     * @param sink   la destination vers laquelle le buffer est vidé, ou null pour une écriture en mémoire
+     * @param config la configuration de la sérialisation
+     * @return un contexte d'écriture vide
+     */
+    static JsonWriter acquire(Appendable sink, JsonWriterConfig config) {
+        JsonWriter writer = CACHED_WRITER.get();
+        if (writer.inUse) {
+            return sink == null ? new JsonWriter(config) : new JsonWriter(sink, config);
+        }
+        writer.inUse = true;
+        writer.sink = sink;
+        writer.config = config;
+        return writer;
+    }
+
+    /**
+     * Rend le contexte d'écriture au thread courant, y compris après une sérialisation interrompue par une exception.
+     * Sans effet pour un contexte qui n'a pas été obtenu par {@link #acquire}.
+     */
+    void release() {
+        if (!cached) {
+            return;
+        }
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(FLUSH_THRESHOLD + FLUSH_THRESHOLD / 2);
+        } else {
+            buffer.setLength(0);
+        }
+        path.clear();
+        if (chunk != null && chunk.length > MAX_RETAINED_CAPACITY) {
+            chunk = null;
+        }
+        fieldsLevel = -1;
+        firstField = true;
+        valueLevel = -1;
+        sink = null;
+        config = null;
+        inUse = false;
+    }
+
+    StringBuilder buffer() {
+        return buffer;
+    }
+
+    JsonWriterConfig config() {
+        return config;
+    }
+
+    /**
+     * Passe à la ligne et indente pour un élément de la profondeur donnée.
+     *
+     * @param depth la profondeur de l'élément suivant
+     */
+    void newLine(int depth) {
+        buffer.append(config.indentation(depth));
+    }
+
+    /**
+     * Buffer de travail réutilisé pour la conversion des nombres.
+     */
+    char[] scratch() {
+        return scratch;
+    }
+
+    /**
+     * Crée un contexte d'écriture en mémoire pour une partie du document écrite sur un autre thread.
+     * <p>
+     * Le contexte reprend la configuration et les objets en cours d'écriture de ce contexte : un cycle remontant
+     * vers un ancêtre est détecté comme en écriture séquentielle.
+     *
+     * @return un nouveau contexte indépendant
+     */
+    JsonWriter fork() {
+        JsonWriter fork = new JsonWriter(config);
+        if (!config.isAcyclic()) {
+            path.copyTo(fork.path);
+        }
+        return fork;
+    }
+
+    /**
+     * Entre dans l'écriture d'un objet, sauf s'il est déjà en cours d'écriture plus haut dans le graphe.
+     * Avec {@link JsonWriterConfig#assumeAcyclic()}, aucune vérification n'est faite.
+     *
+     * @param object l'objet à écrire
+     * @return false si l'objet forme un cycle et ne doit pas être écrit, true sinon
+     * @see JsonPath
+     */
+    boolean enter(Object object) {
+        return config.isAcyclic() || path.enter(object);
+    }
+
+    /**
+     * Sort de l'écriture d'un objet pour lequel {@link #enter(Object)} a renvoyé true.
+     *
+     * @param object l'objet écrit
+     */
+    void exit(Object object) {
+        if (!config.isAcyclic()) {
+            path.exit(object);
+        }
+    }
+
+    /**
+     * Fait écrire les champs d'un objet par son codec, l'accolade ouvrante étant déjà écrite.
+     *
+     * @param codec            le codec de l'objet
+     * @param object           l'objet à écrire
+     * @param indentationLevel la profondeur de l'objet, -1 en mode compact
+     * @return true si au moins un champ a été écrit
+     */
+    boolean writeFields(JsonCodec<Object> codec, Object object, int indentationLevel) {
+        // Un champ peut contenir un objet écrit par un autre codec : l'état de l'objet englobant est restauré ensuite
+        int outerLevel = fieldsLevel;
+        boolean outerFirst = firstField;
+        fieldsLevel = indentationLevel;
+        firstField = true;
+        try {
+            codec.writeFields(object, this);
+            return !firstField;
+        } finally {
+            fieldsLevel = outerLevel;
+            firstField = outerFirst;
+        }
+    }
+
+    /**
+     * Fait écrire une valeur par un adaptateur enregistré.
+     *
+     * @param adapter          l'adaptateur du type de la valeur
+     * @param value            la valeur à écrire
+     * @param indentationLevel la profondeur de la valeur, -1 en mode compact
+     */
+    void writeAdapted(JsonAdapter<Object> adapter, Object value, int indentationLevel) {
+        int outerLevel = valueLevel;
+        valueLevel = indentationLevel;
+        try {
+            adapter.write(value, this);
+        } finally {
+            valueLevel = outerLevel;
+        }
+    }
+
+    /**
+     * Écrit, depuis un {@link JsonAdapter}, une valeur convertie comme par {@link JsonUtil#toJson(Object)}.
+     * La valeur ne doit pas être celle que l'adaptateur est en train d'écrire.
+     *
+     * @param value la valeur à écrire, null donne {@code null}
+     */
+    public void value(Object value) {
+        JsonUtil.toJson(value, this, valueLevel);
+    }
+
+    /**
+     * Écrit une chaîne de caractères depuis un {@link JsonAdapter}.
+     *
+     * @param value la chaîne à écrire, null donne {@code null}
+     */
+    public void value(String value) {
+        if (value == null) {
+            buffer.append("null");
+        } else {
+            appendString(value);
+        }
+    }
+
+    public void value(long value) {
+        JsonNumberWriter.writeLong(buffer, value, scratch);
+    }
+
+    public void value(double value) {
+        JsonNumberWriter.writeDouble(buffer, value, scratch);
+    }
+
+    public void value(boolean value) {
+        buffer.append(value);
+    }
+
+    /**
+     * Écrit un objet depuis un {@link JsonAdapter} : accolades, indentation et détection des cycles sont gérées
+     * comme pour un objet sérialisé par réflexion, le codec n'écrivant que les champs.
+     *
+     * @param value l'objet à écrire
+     * @param codec l'écriture des champs, par exemple une lambda appelant {@code field}
+     * @param <T>   le type de l'objet
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void object(T value, JsonCodec<? super T> codec) {
+        if (!enter(value)) {
+            buffer.append("{}");
+            return;
+        }
+        buffer.append('{');
+        if (writeFields((JsonCodec<Object>) codec, value, valueLevel) && valueLevel >= 0) {
+            newLine(valueLevel);
+        }
+        buffer.append('}');
+        exit(value);
+    }
+
+    /**
+     * Écrit un champ dont la valeur est convertie comme par {@link JsonUtil#toJson(Object)}.
+     *
+     * @param name  le nom du champ
+     * @param value la valeur du champ, ignorée si null
+     */
+    public void field(String name, Object value) {
+        if (value == null) {
+            return;
+        }
+        name(name);
+        JsonUtil.toJson(value, this, fieldsLevel >= 0 ? fieldsLevel + 1 : -1);
+        flushIfNeeded();
+    }
+
+    /**
+     * Écrit un champ de type chaîne de caractères.
+     *
+     * @param name  le nom du champ
+     * @param value la valeur du champ, ignorée si null
+     */
+    public void field(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        name(name);
+        appendString(value);
+    }
+
+    public void field(String name, int value) {
+        name(name);
+        JsonNumberWriter.writeLong(buffer, value, scratch);
+    }
+
+    public void field(String name, long value) {
+        name(name);
+        JsonNumberWriter.writeLong(buffer, value, scratch);
+    }
+
+    public void field(String name, double value) {
+        name(name);
+        JsonNumberWriter.writeDouble(buffer, value, scratch);
+    }
+
+    public void field(String name, float value) {
+        name(name);
+        JsonNumberWriter.writeFloat(buffer, value, scratch);
+    }
+
+    public void field(String name, boolean value) {
+        name(name);
+        buffer.append(value);
+    }
+
+    public void field(String name, char value) {
+        name(name);
+        appendString(String.valueOf(value));
+    }
+
+    /**
+     * Écrit un champ dont la valeur est convertie comme par {@link JsonUtil#toJson(Object)}, avec un nom
+     * pré-encodé.
+     *
+     * @param name  le nom du champ
+     * @param value la valeur du champ, ignorée si null
+     */
+    public void field(JsonName name, Object value) {
+        if (value == null) {
+            return;
+        }
+        name(name);
+        JsonUtil.toJson(value, this, fieldsLevel >= 0 ? fieldsLevel + 1 : -1);
+        flushIfNeeded();
+    }
+
+    /**
+     * Écrit un champ de type chaîne de caractères, avec un nom pré-encodé.
+     *
+     * @param name  le nom du champ
+     * @param value la valeur du champ, ignorée si null
+     */
+    public void field(JsonName name, String value) {
+        if (value == null) {
+            return;
+        }
+        name(name);
+        appendString(value);
+    }
+
+    public void field(JsonName name, int value) {
+        name(name);
+        JsonNumberWriter.writeLong(buffer, value, scratch);
+    }
+
+    public void field(JsonName name, long value) {
+        name(name);
+        JsonNumberWriter.writeLong(buffer, value, scratch);
+    }
+
+    public void field(JsonName name, double value) {
+        name(name);
+        JsonNumberWriter.writeDouble(buffer, value, scratch);
+    }
+
+    public void field(JsonName name, float value) {
+        name(name);
+        JsonNumberWriter.writeFloat(buffer, value, scratch);
+    }
+
+    public void field(JsonName name, boolean value) {
+        name(name);
+        buffer.append(value);
+    }
+
+    public void field(JsonName name, char value) {
+        name(name);
+        appendString(String.valueOf(value));
+    }
+
+    private void name(String name) {
+        separator();
+        appendString(name);
+        buffer.append(':');
+        if (fieldsLevel >= 0) {
+            buffer.append(' ');
+        }
+    }
+
+    private void name(JsonName name) {
+        separator();
+        buffer.append(name.token(fieldsLevel >= 0));
+    }
+
+    private void separator() {
+        if (!firstField) {
+            buffer.append(',');
+        }
+        if (fieldsLevel >= 0) {
+            newLine(fieldsLevel + 1);
+        }
+        firstField = false;
+    }
+
+    private void appendString(String value) {
+        buffer.append('"');
+        StringUtil.escapeJson(value, buffer);
+        buffer.append('"');
+    }
+
+    /**
+     * Vide le buffer vers la destination s'il a dépassé le seuil. Sans effet pour une écriture en mémoire.
+     *
+     * @throws UncheckedIOException si l'écriture vers la destination échoue
+     */
+    void flushIfNeeded() {
+        if (sink != null && buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    /**
+     * Vide l'intégralité du buffer vers la destination.
+     *
+     * @throws UncheckedIOException si l'écriture vers la destination échoue
+     */
+    void flush() {
+        if (sink == null || buffer.length() == 0) {
+            return;
+        }
+        try {
+            if (sink instanceof Writer) {
+                int length = buffer.length();
+                if (chunk == null || chunk.length < length) {
+                    chunk = new char[Math.max(length, FLUSH_THRESHOLD)];
+                }
+                buffer.getChars(0, length, chunk, 0);
+                ((Writer) sink).write(chunk, 0, length);
+            } else {
+                sink.append(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,264 @@
+package com.utils.shared.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuration de la sérialisation JSON : indentation, fin de ligne, ordre des clés, détection des cycles,
+ * écriture parallèle et écriture en colonnes.
+ * <p>
+ * Par défaut, le JSON est compact et les clés suivent l'ordre de déclaration des champs (ou d'itération des maps).
+ * Exemple :
+ * <pre>{@code
+ * JsonWriterConfig config = new JsonWriterConfig().indent(4).newline("\r\n").keyOrder(KeyOrder.ALPHABETICAL);
+ * String json = JsonUtil.toJson(objet, config);
+ * }</pre>
+ * Les chaînes d'indentation sont construites une seule fois par profondeur puis réutilisées : chaque retour à la
+ * ligne se résume à un seul ajout dans le buffer. Une configuration peut être partagée entre plusieurs threads tant
+ * qu'elle n'est plus modifiée.
+ */
+public class JsonWriterConfig {
+
+    /**
+     * Ordre d'écriture des clés des objets et des maps.
+     */
+    public enum KeyOrder {
+        /**
+         * Ordre de déclaration des champs, ou ordre d'itération des maps.
+         */
+        DECLARATION,
+        /**
+         * Ordre alphabétique des noms de champs et des clés de maps.
+         */
+        ALPHABETICAL
+    }
+
+    private boolean indented;
+    private int indentWidth = 2;
+    private String newline = "\n";
+    private KeyOrder keyOrder = KeyOrder.DECLARATION;
+    private boolean acyclic;
+    private int parallelThreshold;
+    private ForkJoinPool parallelPool;
+    private boolean columnar;
+
+    /* Chaînes « fin de ligne + indentation » par profondeur, complétées à la demande */
+    private volatile String[] indentations = new String[0];
+
+    /**
+     * Active l'indentation.
+     *
+     * @param width le nombre d'espaces par niveau d'imbrication
+     * @return cette configuration
+     * @throws IllegalArgumentException si la largeur est négative
+     */
+    public JsonWriterConfig indent(int width) {
+        if (width < 0) {
+            throw new IllegalArgumentException("La largeur d'indentation doit être positive : " + width);
+        }
+        this.indented = true;
+        this.indentWidth = width;
+        this.indentations = new String[0];
+        return this;
+    }
+
+    /**
+     * Désactive l'indentation : le JSON est écrit sur une seule ligne.
+     *
+     * @return cette configuration
+     */
+    public JsonWriterConfig compact() {
+        this.indented = false;
+        return this;
+    }
+
+    /**
+     * Définit la fin de ligne utilisée lorsque l'indentation est active.
+     *
+     * @param newline la fin de ligne, par exemple {@code "\n"} ou {@code "\r\n"}
+     * @return cette configuration
+     */
+    public JsonWriterConfig newline(String newline) {
+        if (newline == null) {
+            throw new IllegalArgumentException("La fin de ligne ne peut pas être null");
+        }
+        this.newline = newline;
+        this.indentations = new String[0];
+        return this;
+    }
+
+    /**
+     * Définit l'ordre d'écriture des clés.
+     *
+     * @param keyOrder l'ordre des clés
+     * @return cette configuration
+     */
+    public JsonWriterConfig keyOrder(KeyOrder keyOrder) {
+        if (keyOrder == null) {
+            throw new IllegalArgumentException("L'ordre des clés ne peut pas être null");
+        }
+        this.keyOrder = keyOrder;
+        return this;
+    }
+
+    /**
+     * Désactive la détection des cycles pour des graphes d'objets garantis sans cycle (arbres de DTO).
+     * <p>
+     * Un objet rencontré plusieurs fois sur des branches différentes est écrit à chaque fois, comme en mode normal.
+     * En revanche, un graphe cyclique sérialisé avec cette option provoque un {@link StackOverflowError}.
+     *
+     * @return cette configuration
+     */
+    public JsonWriterConfig assumeAcyclic() {
+        this.acyclic = true;
+        return this;
+    }
+
+    /**
+     * Réactive la détection des cycles : un objet déjà en cours d'écriture plus haut dans le graphe est écrit
+     * {@code {}}.
+     *
+     * @return cette configuration
+     */
+    public JsonWriterConfig detectCycles() {
+        this.acyclic = false;
+        return this;
+    }
+
+    /**
+     * Active l'écriture parallèle des grandes collections et des grands tableaux d'objets, sur le pool commun.
+     *
+     * @param threshold le nombre minimal d'éléments à partir duquel une collection est écrite en parallèle
+     * @return cette configuration
+     * @see #parallel(int, ForkJoinPool)
+     */
+    public JsonWriterConfig parallel(int threshold) {
+        return parallel(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Active l'écriture parallèle des grandes collections et des grands tableaux d'objets.
+     * <p>
+     * Les éléments sont découpés en blocs écrits simultanément dans des buffers distincts, puis concaténés dans
+     * l'ordre : le JSON produit est identique, octet pour octet, à celui d'une écriture séquentielle. Les éléments
+     * ne doivent pas être modifiés pendant l'écriture et leurs getters éventuels (codecs générés) doivent pouvoir
+     * être appelés depuis un autre thread.
+     *
+     * @param threshold le nombre minimal d'éléments à partir duquel une collection est écrite en parallèle
+     * @param pool      le pool exécutant l'écriture des blocs
+     * @return cette configuration
+     * @throws IllegalArgumentException si le seuil n'est pas strictement positif ou si le pool est null
+     */
+    public JsonWriterConfig parallel(int threshold, ForkJoinPool pool) {
+        if (threshold <= 0 || pool == null) {
+            throw new IllegalArgumentException("Un seuil strictement positif et un pool sont requis : " + threshold);
+        }
+        this.parallelThreshold = threshold;
+        this.parallelPool = pool;
+        return this;
+    }
+
+    /**
+     * Désactive l'écriture parallèle.
+     *
+     * @return cette configuration
+     */
+    public JsonWriterConfig sequential() {
+        this.parallelThreshold = 0;
+        this.parallelPool = null;
+        return this;
+    }
+
+    /**
+     * Active l'écriture en colonnes des collections et des tableaux dont tous les éléments sont des objets de la
+     * même classe : les noms des champs sont écrits une seule fois, suivis d'une ligne de valeurs par élément.
+     * <pre>{@code
+     * {"columns":["nom","age"],"rows":[["Alice",30],["Bob",null]]}
+     * }</pre>
+     * Un champ null donne une valeur null dans sa ligne, un élément déjà en cours d'écriture (cycle) une ligne vide.
+     * Les champs sont lus par réflexion, sans les codecs générés, et les lignes sont écrites séquentiellement même
+     * si l'écriture parallèle est active. {@link JsonUtil#fromJson(String, Class)} relit ce format pour un champ
+     * collection ou tableau typé ; une valeur non typée est relue comme une map.
+     *
+     * @return cette configuration
+     */
+    public JsonWriterConfig columnar() {
+        this.columnar = true;
+        return this;
+    }
+
+    /**
+     * Désactive l'écriture en colonnes : chaque élément est écrit comme un objet complet.
+     *
+     * @return cette configuration
+     */
+    public JsonWriterConfig expanded() {
+        this.columnar = false;
+        return this;
+    }
+
+    public boolean isIndented() {
+        return indented;
+    }
+
+    public int getIndentWidth() {
+        return indentWidth;
+    }
+
+    public String getNewline() {
+        return newline;
+    }
+
+    public KeyOrder getKeyOrder() {
+        return keyOrder;
+    }
+
+    public boolean isAcyclic() {
+        return acyclic;
+    }
+
+    /**
+     * @return le seuil d'écriture parallèle, 0 si elle est désactivée
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public ForkJoinPool getParallelPool() {
+        return parallelPool;
+    }
+
+    public boolean isColumnar() {
+        return columnar;
+    }
+
+    /**
+     * @param size le nombre d'éléments d'une collection
+     * @return true si la collection doit être écrite en parallèle
+     */
+    boolean isParallel(int size) {
+        return parallelThreshold > 0 && size >= parallelThreshold;
+    }
+
+    /**
+     * Obtient la fin de ligne suivie de l'indentation d'une profondeur donnée.
+     *
+     * @param depth la profondeur d'imbrication
+     * @return la chaîne à ajouter avant un élément de cette profondeur
+     */
+    String indentation(int depth) {
+        String[] cache = indentations;
+        if (depth < cache.length) {
+            return cache[depth];
+        }
+        // Le tableau est remplacé et non modifié : un thread concurrent voit l'ancien ou le nouveau, jamais un mélange
+        String[] grown = Arrays.copyOf(cache, Math.max(depth + 1, Math.max(8, cache.length * 2)));
+        char[] spaces = new char[indentWidth * (grown.length - 1)];
+        Arrays.fill(spaces, ' ');
+        for (int i = cache.length; i < grown.length; i++) {
+            grown[i] = newline + new String(spaces, 0, indentWidth * i);
+        }
+        indentations = grown;
+        return grown[depth];
+    }
+}
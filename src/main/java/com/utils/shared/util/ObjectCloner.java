@@ -0,0 +1,510 @@
+package com.utils.shared.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Copie profonde d'un graphe d'objets par réflexion, sans passer par la sérialisation Java.
+ * <p>
+ * Chaque classe rencontrée reçoit un plan de copie, calculé une seule fois et mis en cache par un {@link ClassValue} :
+ * <ul>
+ *     <li>les valeurs immuables ({@code String}, types primitifs encapsulés, {@code BigDecimal}, {@code BigInteger},
+ *     {@code java.time}, énumérations, {@code UUID}...) sont partagées et non copiées ;</li>
+ *     <li>un simple {@code Object}, typiquement un verrou, est remplacé par un nouvel {@code Object} ;</li>
+ *     <li>les tableaux de primitifs sont copiés par {@link System#arraycopy(Object, int, Object, int, int)}, les
+ *     tableaux d'objets élément par élément ;</li>
+ *     <li>les collections et tables du JDK sont recréées vides sans perdre leur configuration (par {@code clone()}
+ *     puis {@code clear()}, ou avec leur comparateur) puis remplies des copies de leurs éléments ;</li>
+ *     <li>les autres classes sont créées par leur {@link Instantiator} puis leurs champs non {@code transient},
+ *     hérités compris ({@link ReflectionUtil#getAllFields(Class)}), recopiés par leur {@link FieldAccessor} : les
+ *     champs primitifs et immuables directement, les autres par copie récursive. Comme pour la sérialisation, un
+ *     champ {@code transient} garde la valeur donnée par le constructeur.</li>
+ * </ul>
+ * Une table d'identité associe chaque objet déjà copié à sa copie : une référence partagée reste partagée dans la
+ * copie et les cycles sont reproduits. Les classes n'implémentent donc pas {@link Serializable}.
+ * <p>
+ * Sont copiées par sérialisation si elles sont {@link Serializable}, et refusées sinon :
+ * <ul>
+ *     <li>les classes sans constructeur sans argument ;</li>
+ *     <li>les classes qui personnalisent leur sérialisation ({@code readResolve}, {@code readObject},
+ *     {@code writeReplace}, {@link Externalizable}...) ;</li>
+ *     <li>les classes qui héritent d'une classe du JDK porteuse d'état ({@code Date}, {@code Exception}...) ;</li>
+ *     <li>les classes du JDK non prises en charge ({@code Collections.unmodifiableList}, {@code ArrayDeque}...).</li>
+ * </ul>
+ * Le partage des références entre un tel sous-graphe et le reste du graphe n'est alors pas conservé.
+ */
+public final class ObjectCloner {
+
+    private static final ClassValue<CopyPlan> PLANS = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return plan(type);
+        }
+    };
+
+    private static final CopyPlan IMMUTABLE = (cloner, source) -> source;
+
+    private static final Set<String> SERIALIZATION_HOOKS = new HashSet<>(Arrays.asList(
+            "writeObject", "readObject", "readObjectNoData", "writeReplace", "readResolve"));
+
+    /**
+     * Collections du JDK dont le constructeur sans argument ne perd aucune configuration.
+     */
+    private static final Set<Class<?>> STATELESS_CONTAINERS = new HashSet<>(Arrays.asList(
+            ConcurrentHashMap.class, ConcurrentLinkedQueue.class, ConcurrentLinkedDeque.class,
+            CopyOnWriteArraySet.class, LinkedTransferQueue.class, WeakHashMap.class));
+
+    private static final CopyPlan SERIALIZATION = (cloner, source) -> {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(source);
+            }
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return cloner.register(source, input.readObject());
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CloneException("Erreur lors de la copie par sérialisation de " + source.getClass().getName(), e);
+        }
+    };
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private ObjectCloner() {
+    }
+
+    /**
+     * Effectue une copie profonde d'un objet.
+     *
+     * @param object l'objet à copier
+     * @return la copie de l'objet, ou null si l'objet est nul
+     * @throws CloneException                     si un objet du graphe ne peut pas être copié
+     * @throws ReflectionUtil.ReflectionException si un champ ne peut pas être lu ou écrit
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T object) {
+        return (T) new ObjectCloner().copyValue(object);
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        CopyPlan plan = PLANS.get(value.getClass());
+        if (plan == IMMUTABLE) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        return copy != null ? copy : plan.copy(this, value);
+    }
+
+    /**
+     * Enregistre une copie avant de copier son contenu, pour que les références qui y reviennent la retrouvent.
+     */
+    private <T> T register(Object source, T copy) {
+        copies.put(source, copy);
+        return copy;
+    }
+
+    private static CopyPlan plan(Class<?> type) {
+        if (isImmutableType(type)) {
+            return IMMUTABLE;
+        }
+        if (type.isArray()) {
+            Class<?> componentType = type.getComponentType();
+            return componentType.isPrimitive() || isFinalImmutable(componentType)
+                    ? new ArrayCopyPlan(componentType)
+                    : new ObjectArrayPlan(componentType);
+        }
+        if (type == Optional.class) {
+            return (cloner, source) -> ((Optional<?>) source).map(cloner::copyValue);
+        }
+        if (type == Object.class) {
+            // Objet sans état, souvent un verrou : la copie reçoit le sien
+            return (cloner, source) -> cloner.register(source, new Object());
+        }
+        CopyPlan plan = null;
+        boolean collection = Collection.class.isAssignableFrom(type);
+        if (ClassMetadata.isPlatformClass(type)) {
+            if (collection || Map.class.isAssignableFrom(type)) {
+                Function<Object, Object> factory = platformFactory(type);
+                if (factory != null) {
+                    plan = collection
+                            ? new CollectionPlan(factory, new FieldCopier[0])
+                            : new MapPlan(factory, new FieldCopier[0]);
+                }
+            }
+        } else if (!hasSerializationHooks(type)) {
+            plan = userPlan(type, collection);
+        }
+        if (plan != null) {
+            return plan;
+        }
+        if (Serializable.class.isAssignableFrom(type)) {
+            return SERIALIZATION;
+        }
+        return (cloner, source) -> {
+            throw new CloneException("Classe non copiable : " + type.getName(), null);
+        };
+    }
+
+    /**
+     * @return le plan d'une classe hors JDK, ou null si elle n'a pas de constructeur sans argument ou si une
+     * super-classe du JDK porte un état que la copie des champs ne reproduirait pas
+     */
+    private static CopyPlan userPlan(Class<?> type, boolean collection) {
+        Instantiator<?> instantiator = instantiator(type);
+        if (instantiator == null) {
+            return null;
+        }
+        Class<?> platformSuperclass = type.getSuperclass();
+        while (!ClassMetadata.isPlatformClass(platformSuperclass)) {
+            platformSuperclass = platformSuperclass.getSuperclass();
+        }
+        if (collection || Map.class.isAssignableFrom(type)) {
+            if (isConcrete(platformSuperclass)) {
+                // Le contenu est conservé par ArrayList, HashMap... : les éléments sont ajoutés après les champs
+                Function<Object, Object> factory = source -> instantiator.newInstance();
+                return collection
+                        ? new CollectionPlan(factory, fieldCopiers(type))
+                        : new MapPlan(factory, fieldCopiers(type));
+            }
+            // Collection bâtie sur AbstractList, AbstractMap... : son contenu est entièrement dans ses champs
+            return new ObjectPlan(instantiator, fieldCopiers(type));
+        }
+        if (isConcrete(platformSuperclass) || hasState(platformSuperclass)) {
+            // Date, Exception... : leurs champs ne sont pas parcourus
+            return null;
+        }
+        return new ObjectPlan(instantiator, fieldCopiers(type));
+    }
+
+    private static boolean isConcrete(Class<?> platformClass) {
+        return platformClass != Object.class && !Modifier.isAbstract(platformClass.getModifiers());
+    }
+
+    /**
+     * @return true si la classe du JDK ou une de ses super-classes déclare un champ non statique et non transient
+     */
+    private static boolean hasState(Class<?> platformClass) {
+        for (Class<?> current = platformClass; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Une classe qui personnalise sa sérialisation ({@code readResolve}, {@code readObject}, {@code writeReplace}...)
+     * attend d'être recréée par elle : un singleton doit rester unique, un champ transient être recalculé.
+     */
+    private static boolean hasSerializationHooks(Class<?> type) {
+        if (!Serializable.class.isAssignableFrom(type)) {
+            return false;
+        }
+        if (Externalizable.class.isAssignableFrom(type)) {
+            return true;
+        }
+        for (Class<?> current = type; !ClassMetadata.isPlatformClass(current); current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()) && SERIALIZATION_HOOKS.contains(method.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recrée vide une collection ou une table du JDK sans perdre sa configuration :
+     * <ul>
+     *     <li>par {@code clone()} suivi de {@code clear()} si elle est {@link Cloneable}, ce qui conserve l'ordre
+     *     d'accès d'un {@code LinkedHashMap}, le comparateur d'un {@code TreeMap}, le type d'un {@code EnumMap}... ;</li>
+     *     <li>par son constructeur prenant le comparateur de la source pour une collection triée ;</li>
+     *     <li>par son constructeur sans argument pour les classes sans configuration ({@code ConcurrentHashMap}...).</li>
+     * </ul>
+     *
+     * @return la fabrique, ou null si la classe ne peut pas être recréée sans perte
+     */
+    private static Function<Object, Object> platformFactory(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodType factoryType = MethodType.methodType(Object.class, Object.class);
+        if (Cloneable.class.isAssignableFrom(type)) {
+            MethodHandle clone = publicClone(type);
+            if (clone != null) {
+                MethodHandle factory = clone.asType(factoryType);
+                return source -> clear(invoke(factory, source));
+            }
+        }
+        try {
+            if (SortedSet.class.isAssignableFrom(type) || SortedMap.class.isAssignableFrom(type)
+                    || PriorityQueue.class.isAssignableFrom(type)) {
+                MethodHandle factory = lookup.findConstructor(type,
+                        MethodType.methodType(void.class, Comparator.class)).asType(factoryType);
+                return source -> invoke(factory, comparator(source));
+            }
+            if (STATELESS_CONTAINERS.contains(type)) {
+                MethodHandle factory = MethodHandles.dropArguments(lookup.findConstructor(type,
+                        MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class)), 0, Object.class);
+                return source -> invoke(factory, null);
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * @return la méthode {@code clone()} publique déclarée par la classe ou sa plus proche super-classe publique, ou
+     * null s'il n'y en a pas
+     */
+    private static MethodHandle publicClone(Class<?> type) {
+        for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+            try {
+                return MethodHandles.publicLookup().findVirtual(current, "clone", MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // Classe non publique (RegularEnumSet...) : la méthode est cherchée dans la super-classe
+            }
+        }
+        return null;
+    }
+
+    private static Object clear(Object container) {
+        if (container instanceof Map) {
+            ((Map<?, ?>) container).clear();
+        } else {
+            ((Collection<?>) container).clear();
+        }
+        return container;
+    }
+
+    private static Comparator<?> comparator(Object source) {
+        if (source instanceof SortedSet) {
+            return ((SortedSet<?>) source).comparator();
+        }
+        if (source instanceof SortedMap) {
+            return ((SortedMap<?, ?>) source).comparator();
+        }
+        return ((PriorityQueue<?>) source).comparator();
+    }
+
+    /**
+     * @param factory un handle {@code (Object)Object}
+     */
+    private static Object invoke(MethodHandle factory, Object argument) {
+        try {
+            return (Object) factory.invokeExact(argument);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new CloneException("Erreur lors de la création de la copie", e);
+        }
+    }
+
+    private static Instantiator<?> instantiator(Class<?> type) {
+        try {
+            return ClassMetadata.of(type).instantiator();
+        } catch (ReflectionUtil.ReflectionException e) {
+            return null;
+        }
+    }
+
+    private static FieldCopier[] fieldCopiers(Class<?> type) {
+        Field[] fields = ClassMetadata.of(type).allFields();
+        List<FieldCopier> copiers = new ArrayList<>(fields.length);
+        for (Field field : fields) {
+            if (Modifier.isTransient(field.getModifiers())) {
+                // Comme pour la sérialisation, un champ transient garde la valeur donnée par le constructeur
+                continue;
+            }
+            FieldAccessor accessor = FieldAccessor.of(field);
+            Class<?> fieldType = field.getType();
+            copiers.add(fieldType.isPrimitive() || isFinalImmutable(fieldType)
+                    ? (cloner, source, copy) -> accessor.copy(source, copy)
+                    : (cloner, source, copy) -> accessor.set(copy, cloner.copyValue(accessor.get(source))));
+        }
+        return copiers.toArray(new FieldCopier[0]);
+    }
+
+    private static boolean isImmutableType(Class<?> type) {
+        if (type.isPrimitive() || Enum.class.isAssignableFrom(type)) {
+            return true;
+        }
+        if (type == String.class || type == Boolean.class || type == Character.class || type == Byte.class
+                || type == Short.class || type == Integer.class || type == Long.class || type == Float.class
+                || type == Double.class || type == BigDecimal.class || type == BigInteger.class
+                || type == UUID.class || type == Locale.class || type == URI.class || type == Pattern.class
+                || type == Class.class) {
+            return true;
+        }
+        // Toutes les classes de java.time et de ses sous-paquetages sont immuables
+        return ClassMetadata.isPlatformClass(type) && type.getPackageName().startsWith("java.time");
+    }
+
+    /**
+     * @return true si toute valeur d'un champ de ce type est immuable et peut être recopiée telle quelle
+     */
+    private static boolean isFinalImmutable(Class<?> type) {
+        return (Modifier.isFinal(type.getModifiers()) || type.isEnum()) && isImmutableType(type);
+    }
+
+    /**
+     * Copie d'un objet dont la classe n'est pas immuable.
+     */
+    @FunctionalInterface
+    private interface CopyPlan {
+        Object copy(ObjectCloner cloner, Object source);
+    }
+
+    @FunctionalInterface
+    private interface FieldCopier {
+        void copy(ObjectCloner cloner, Object source, Object copy);
+    }
+
+    private static void copyFields(FieldCopier[] fields, ObjectCloner cloner, Object source, Object copy) {
+        for (FieldCopier field : fields) {
+            field.copy(cloner, source, copy);
+        }
+    }
+
+    private static final class ObjectPlan implements CopyPlan {
+        private final Instantiator<?> instantiator;
+        private final FieldCopier[] fields;
+
+        ObjectPlan(Instantiator<?> instantiator, FieldCopier[] fields) {
+            this.instantiator = instantiator;
+            this.fields = fields;
+        }
+
+        @Override
+        public Object copy(ObjectCloner cloner, Object source) {
+            Object copy = cloner.register(source, instantiator.newInstance());
+            copyFields(fields, cloner, source, copy);
+            return copy;
+        }
+    }
+
+    private static final class ArrayCopyPlan implements CopyPlan {
+        private final Class<?> componentType;
+
+        ArrayCopyPlan(Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        public Object copy(ObjectCloner cloner, Object source) {
+            int length = Array.getLength(source);
+            Object copy = Array.newInstance(componentType, length);
+            System.arraycopy(source, 0, copy, 0, length);
+            return cloner.register(source, copy);
+        }
+    }
+
+    private static final class ObjectArrayPlan implements CopyPlan {
+        private final Class<?> componentType;
+
+        ObjectArrayPlan(Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        public Object copy(ObjectCloner cloner, Object source) {
+            Object[] elements = (Object[]) source;
+            Object[] copy = cloner.register(source, (Object[]) Array.newInstance(componentType, elements.length));
+            for (int i = 0; i < elements.length; i++) {
+                copy[i] = cloner.copyValue(elements[i]);
+            }
+            return copy;
+        }
+    }
+
+    private static final class CollectionPlan implements CopyPlan {
+        private final Function<Object, Object> factory;
+        private final FieldCopier[] fields;
+
+        CollectionPlan(Function<Object, Object> factory, FieldCopier[] fields) {
+            this.factory = factory;
+            this.fields = fields;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object copy(ObjectCloner cloner, Object source) {
+            Collection<Object> copy = cloner.register(source, (Collection<Object>) factory.apply(source));
+            copyFields(fields, cloner, source, copy);
+            for (Object element : (Collection<?>) source) {
+                copy.add(cloner.copyValue(element));
+            }
+            return copy;
+        }
+    }
+
+    private static final class MapPlan implements CopyPlan {
+        private final Function<Object, Object> factory;
+        private final FieldCopier[] fields;
+
+        MapPlan(Function<Object, Object> factory, FieldCopier[] fields) {
+            this.factory = factory;
+            this.fields = fields;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object copy(ObjectCloner cloner, Object source) {
+            Map<Object, Object> copy = cloner.register(source, (Map<Object, Object>) factory.apply(source));
+            copyFields(fields, cloner, source, copy);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) source).entrySet()) {
+                copy.put(cloner.copyValue(entry.getKey()), cloner.copyValue(entry.getValue()));
+            }
+            return copy;
+        }
+    }
+
+    public static class CloneException extends RuntimeException {
+        public CloneException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
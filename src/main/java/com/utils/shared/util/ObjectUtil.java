@@ -1,10 +1,5 @@
 package com.utils.shared.util;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 public class ObjectUtil {
@@ -59,27 +54,21 @@ public class ObjectUtil {
     }
 
     /**
-     * Effectue une copie profonde d'un objet.
+     * Effectue une copie profonde d'un objet sérialisable avec {@link ObjectCloner}.
+     * <p>
+     * Le résultat est celui d'une sérialisation suivie d'une désérialisation : les champs {@code transient} ne sont
+     * pas copiés et les classes qui définissent {@code readResolve} ou {@code readObject} sont copiées par
+     * sérialisation. Les objets du graphe n'ont en revanche pas à être sérialisables s'ils ont un constructeur sans
+     * argument ; {@link ObjectCloner#copy(Object)} copie aussi un objet racine non sérialisable.
      *
      * @param obj l'objet à copier
      * @return la copie de l'objet ou null si la copie échoue
      */
     public static <T extends Serializable> T deepCopy(T obj) {
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(baos);
-            oos.writeObject(obj);
-            oos.close();
-
-            ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
-            ObjectInputStream ois = new ObjectInputStream(bais);
-            T copy = (T) ois.readObject();
-            ois.close();
-
-            return copy;
-        } catch (IOException | ClassNotFoundException e) {
+            return ObjectCloner.copy(obj);
+        } catch (ObjectCloner.CloneException | ReflectionUtil.ReflectionException e) {
             return null;
         }
     }
 }
-
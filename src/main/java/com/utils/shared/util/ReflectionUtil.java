@@ -1,8 +1,6 @@
 package com.utils.shared.util;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -24,29 +22,49 @@ public class ReflectionUtil {
      *
      * @param clazz la classe du type générique
      * @return une nouvelle instance du type générique ou null si la création échoue
+     * @see #getInstantiator(Class)
      */
     public static <T> T createInstance(final Class<T> clazz) {
         try {
-            Constructor<T> constructor = clazz.getDeclaredConstructor();
-            return constructor.newInstance();
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
+            return getInstantiator(clazz).newInstance();
+        } catch (Exception e) {
             return null;
         }
     }
 
     /**
-     * Effectue la recherche d'un champ sur une classe avec un nom de champs donné.
+     * Obtient l'instanciateur d'une classe par son constructeur sans argument, résolu une seule fois par classe.
+     * À utiliser plutôt que {@link #createInstance(Class)} pour créer de nombreuses instances ou pour connaître la
+     * cause d'un échec.
+     *
+     * @param clazz la classe à instancier
+     * @return l'instanciateur de la classe
+     * @throws ReflectionException si la classe est abstraite, n'a pas de constructeur sans argument ou si ce
+     *                             constructeur est inaccessible
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Instantiator<T> getInstantiator(final Class<T> clazz) {
+        return (Instantiator<T>) ClassMetadata.of(clazz).instantiator();
+    }
+
+    /**
+     * Effectue la recherche d'un champ sur une classe avec un nom de champs donné. Les champs non statiques hérités
+     * sont trouvés par {@link FieldIndex}, le champ de la classe la plus dérivée l'emportant ; les champs statiques
+     * doivent être déclarés par la classe.
      *
      * @param fieldName   le nom du champ sà chercher
      * @param objectClass la classe sur laquelle chercher le champ
      * @throws ReflectionException si une erreur de réflexion se produit
      */
     public static Field getField(final String fieldName, final Class<?> objectClass) {
-        try {
-            return objectClass.getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            throw new ReflectionException("Erreur lors de la récupération du champs", e);
+        Field field = FieldIndex.of(objectClass).get(fieldName);
+        if (field == null) {
+            field = ClassMetadata.of(objectClass).field(fieldName);
+        }
+        if (field == null) {
+            throw new ReflectionException("Erreur lors de la récupération du champs", new NoSuchFieldException(fieldName));
         }
+        return field;
     }
 
     /**
@@ -70,12 +88,7 @@ public class ReflectionUtil {
      * @throws ReflectionException si une erreur de réflexion se produit
      */
     public static void setFieldValue(final Field field, final Object object, final Object value) {
-        try {
-            field.setAccessible(true);
-            field.set(object, value);
-        } catch (IllegalAccessException e) {
-            throw new ReflectionException("Erreur lors de l'accès au champ", e);
-        }
+        FieldAccessor.of(field).set(object, value);
     }
 
     /**
@@ -87,12 +100,7 @@ public class ReflectionUtil {
      * @throws ReflectionException si une erreur de réflexion se produit
      */
     public static Object getFieldValue(final Field field, final Object object) {
-        try {
-            field.setAccessible(true);
-            return field.get(object);
-        } catch (IllegalAccessException e) {
-            throw new ReflectionException("Erreur lors de l'accès au champ", e);
-        }
+        return FieldAccessor.of(field).get(object);
     }
 
     /**
@@ -115,44 +123,62 @@ public class ReflectionUtil {
     }
 
     /**
-     * Récupère le type d'éléments contenu dans une collection spécifiée par un champ.
+     * Récupère le type d'éléments contenu dans une collection spécifiée par un champ : la classe du premier argument
+     * de type, jokers et variables de type réduits à leur borne. Pour résoudre les variables liées par une
+     * sous-classe ou obtenir le type des valeurs d'une map, utiliser {@link TypeResolver#elementType(Class, Field)}.
      *
      * @param field Le champ représentant la collection.
      * @return Le type d'éléments de la collection, ou {@code Object.class} si le type ne peut pas être déterminé.
      */
     public static Class<?> getCollectionType(Field field) {
-        Type genericType = field.getGenericType();
-        if (genericType instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) genericType;
-            Type[] typeArguments = parameterizedType.getActualTypeArguments();
+        Type type = TypeResolver.resolve(field.getDeclaringClass(), field);
+        if (type instanceof ParameterizedType) {
+            Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
             if (typeArguments.length > 0) {
-                Type typeArgument = typeArguments[0];
-                if (typeArgument instanceof Class) {
-                    return (Class<?>) typeArgument;
-                }
+                return TypeResolver.rawType(typeArguments[0]);
             }
         }
-        return Object.class; // Default to Object if unable to determine the collection type
+        return Object.class;
     }
 
-    public static Field[] getFieldsSorted(Class<?> clazz) {
-        Field[] fields = clazz.getDeclaredFields();
-        int length = fields.length;
-        for (int i = 1; i < length; i++) {
-            Field currentField = fields[i];
-            String currentFieldName = currentField.getName();
-            int j = i - 1;
-
-            while (j >= 0 && fields[j].getName().compareTo(currentFieldName) > 0) {
-                fields[j + 1] = fields[j];
-                j--;
-            }
+    /**
+     * Récupère les champs non statiques d'une classe et de ses super-classes, hors super-classes du JDK, de la classe
+     * racine vers la classe elle-même. Un champ masqué par une sous-classe n'apparaît qu'une fois, sous la forme du
+     * champ de la sous-classe. Les champs sont déjà rendus accessibles, ceux des modules fermés étant ignorés.
+     * <p>
+     * La hiérarchie est parcourue une seule fois par classe ; chaque appel renvoie une copie du tableau mis en cache.
+     * {@link ClassMetadata#allFieldList()} donne les mêmes champs sans copie, sous forme de liste non modifiable.
+     *
+     * @param clazz la classe
+     * @return une copie des champs de la classe et de ses super-classes
+     */
+    public static Field[] getAllFields(Class<?> clazz) {
+        return ClassMetadata.of(clazz).allFields().clone();
+    }
 
-            fields[j + 1] = currentField;
-        }
-        return fields;
+    /**
+     * Récupère les champs non statiques déclarés par une classe triés par nom, pour
+     * {@link #findFieldByName(String, Field[])}.
+     *
+     * @param clazz la classe
+     * @return une copie du tableau trié, modifiable par l'appelant
+     * @deprecated la recherche par nom se fait en temps constant avec {@link FieldIndex#get(String)}, qui trouve aussi
+     * les champs hérités
+     */
+    @Deprecated
+    public static Field[] getFieldsSorted(Class<?> clazz) {
+        return ClassMetadata.of(clazz).sortedFields().clone();
     }
 
+    /**
+     * Recherche dichotomique d'un champ dans un tableau trié par {@link #getFieldsSorted(Class)}.
+     *
+     * @param fieldName le nom du champ
+     * @param fields    les champs triés par nom
+     * @return le champ, ou null s'il n'est pas trouvé
+     * @deprecated remplacée par {@link FieldIndex#get(String)}
+     */
+    @Deprecated
     public static Field findFieldByName(String fieldName, Field[] fields) {
         int left = 0;
         int right = fields.length - 1;
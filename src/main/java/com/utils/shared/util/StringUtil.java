@@ -4,6 +4,38 @@ import java.text.Normalizer;
 
 public class StringUtil {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Séquence d'échappement de chaque caractère ASCII, {@code null} si le caractère n'est pas à échapper.
+     */
+    private static final String[] ESCAPES = new String[128];
+
+    /**
+     * Séquences d'échappement d'une chaîne JSON, identiques à {@link #ESCAPES} sauf pour l'apostrophe.
+     */
+    private static final String[] JSON_ESCAPES;
+
+    static {
+        for (char ch = 0; ch < ESCAPES.length; ch++) {
+            if (Character.isISOControl(ch)) {
+                ESCAPES[ch] = "\\u" + HEX_DIGITS[(ch >> 12) & 0xF] + HEX_DIGITS[(ch >> 8) & 0xF]
+                        + HEX_DIGITS[(ch >> 4) & 0xF] + HEX_DIGITS[ch & 0xF];
+            }
+        }
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\''] = "\\'";
+        ESCAPES['\t'] = "\\t";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        JSON_ESCAPES = ESCAPES.clone();
+        // RFC 8259 n'autorise pas \' : l'apostrophe est écrite telle quelle dans une chaîne JSON
+        JSON_ESCAPES['\''] = null;
+    }
+
     private StringUtil() {
         // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
     }
@@ -126,47 +158,93 @@ public class StringUtil {
      * Échappe les caractères spéciaux dans une chaîne de caractères.
      *
      * @param input la chaîne de caractères à échapper
-     * @return la chaîne de caractères échappée
+     * @return la chaîne de caractères échappée, ou la chaîne elle-même si aucun caractère n'est à échapper
      */
     public static String escape(String input) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < input.length(); i++) {
+        return escape(input, ESCAPES);
+    }
+
+    /**
+     * Échappe les caractères spéciaux d'une chaîne de caractères et ajoute le résultat à un buffer existant.
+     * <p>
+     * Les portions ne contenant aucun caractère à échapper sont copiées en bloc.
+     *
+     * @param input  la chaîne de caractères à échapper
+     * @param output le buffer auquel ajouter la chaîne échappée
+     */
+    public static void escape(String input, StringBuilder output) {
+        escape(input, ESCAPES, output);
+    }
+
+    /**
+     * Échappe une chaîne selon RFC 8259, comme {@link #escape(String)} mais sans échapper l'apostrophe.
+     *
+     * @param input la chaîne de caractères à échapper
+     * @return le contenu de la chaîne JSON, sans les guillemets
+     */
+    static String escapeJson(String input) {
+        return escape(input, JSON_ESCAPES);
+    }
+
+    /**
+     * Échappe une chaîne selon RFC 8259 et ajoute le résultat à un buffer existant.
+     *
+     * @param input  la chaîne de caractères à échapper
+     * @param output le buffer auquel ajouter la chaîne échappée
+     */
+    static void escapeJson(String input, StringBuilder output) {
+        escape(input, JSON_ESCAPES, output);
+    }
+
+    private static String escape(String input, String[] escapes) {
+        int index = indexOfCharToEscape(input, 0, escapes);
+        if (index < 0) {
+            return input;
+        }
+        StringBuilder result = new StringBuilder(input.length() + 16);
+        escape(input, index, escapes, result);
+        return result.toString();
+    }
+
+    private static void escape(String input, String[] escapes, StringBuilder output) {
+        int index = indexOfCharToEscape(input, 0, escapes);
+        if (index < 0) {
+            output.append(input);
+        } else {
+            escape(input, index, escapes, output);
+        }
+    }
+
+    private static void escape(String input, int firstIndex, String[] escapes, StringBuilder output) {
+        int length = input.length();
+        int start = 0;
+        int index = firstIndex;
+        while (index >= 0) {
+            output.append(input, start, index);
+            char ch = input.charAt(index);
+            String escape = ch < escapes.length ? escapes[ch] : null;
+            if (escape != null) {
+                output.append(escape);
+            } else {
+                output.append('\\').append('u')
+                        .append(HEX_DIGITS[(ch >> 12) & 0xF]).append(HEX_DIGITS[(ch >> 8) & 0xF])
+                        .append(HEX_DIGITS[(ch >> 4) & 0xF]).append(HEX_DIGITS[ch & 0xF]);
+            }
+            start = index + 1;
+            index = indexOfCharToEscape(input, start, escapes);
+        }
+        output.append(input, start, length);
+    }
+
+    private static int indexOfCharToEscape(String input, int from, String[] escapes) {
+        int length = input.length();
+        for (int i = from; i < length; i++) {
             char ch = input.charAt(i);
-            switch (ch) {
-                case '\\':
-                    result.append("\\\\");
-                    break;
-                case '\"':
-                    result.append("\\\"");
-                    break;
-                case '\'':
-                    result.append("\\'");
-                    break;
-                case '\t':
-                    result.append("\\t");
-                    break;
-                case '\n':
-                    result.append("\\n");
-                    break;
-                case '\r':
-                    result.append("\\r");
-                    break;
-                case '\b':
-                    result.append("\\b");
-                    break;
-                case '\f':
-                    result.append("\\f");
-                    break;
-                default:
-                    if (Character.isISOControl(ch)) {
-                        result.append("\\u").append(String.format("%04x", (int) ch));
-                    } else {
-                        result.append(ch);
-                    }
-                    break;
+            if (ch < escapes.length ? escapes[ch] != null : Character.isISOControl(ch)) {
+                return i;
             }
         }
-        return result.toString();
+        return -1;
     }
 
     /**
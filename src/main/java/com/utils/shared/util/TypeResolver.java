@@ -0,0 +1,355 @@
+package com.utils.shared.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Résolution des types génériques des champs par rapport à la classe concrète qui les porte.
+ * <p>
+ * Les variables de type liées dans la hiérarchie sont remplacées par leur valeur : pour
+ * {@code class Page<T> { List<T> items; }} et {@code class Clients extends Page<Client>}, le champ {@code items} vu
+ * depuis {@code Clients} a le type {@code List<Client>}. Les jokers ({@code ? extends Client}), les types imbriqués
+ * ({@code Map<String, List<Client>>}) et les tableaux génériques sont résolus de la même façon ; une variable restée
+ * libre est conservée et se réduit à sa borne par {@link #rawType(Type)}.
+ * <p>
+ * Les liaisons de chaque classe et les types résolus de chaque (classe, champ) sont mis en cache par
+ * {@link ClassMetadata}.
+ */
+public final class TypeResolver {
+
+    private TypeResolver() {
+        // Constructeur privé pour empêcher l'instanciation de la classe utilitaire
+    }
+
+    /**
+     * Résout le type générique d'un champ vu depuis une classe.
+     *
+     * @param owner la classe concrète, qui déclare ou hérite le champ
+     * @param field le champ
+     * @return le type du champ, variables de type liées par la hiérarchie de {@code owner} remplacées
+     */
+    public static Type resolve(Class<?> owner, Field field) {
+        return ClassMetadata.of(owner).resolvedType(field);
+    }
+
+    /**
+     * Type des éléments d'un champ conteneur : collection (ou tout {@link Iterable}), tableau, {@link Optional} ou
+     * valeurs d'une {@link Map}.
+     *
+     * @param owner la classe concrète portant le champ
+     * @param field le champ
+     * @return la classe des éléments, {@code Object.class} si le champ n'est pas un conteneur ou si elle est inconnue
+     */
+    public static Class<?> elementType(Class<?> owner, Field field) {
+        Type type = resolve(owner, field);
+        Class<?> raw = rawType(type);
+        if (raw.isArray()) {
+            return type instanceof GenericArrayType
+                    ? rawType(((GenericArrayType) type).getGenericComponentType())
+                    : raw.getComponentType();
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            return typeArgument(type, Map.class, 1);
+        }
+        if (raw == Optional.class) {
+            return typeArgument(type, Optional.class, 0);
+        }
+        if (Iterable.class.isAssignableFrom(raw)) {
+            return typeArgument(type, Collection.class.isAssignableFrom(raw) ? Collection.class : Iterable.class, 0);
+        }
+        return Object.class;
+    }
+
+    /**
+     * Argument de type d'un super-type générique, vu depuis un type : pour {@code ArrayList<String>} et
+     * {@code Collection.class}, l'argument 0 est {@code String}.
+     *
+     * @param type   le type de départ
+     * @param target une classe générique parmi les super-types de {@code type}
+     * @param index  la position de l'argument de type de {@code target}
+     * @return la classe de l'argument, {@code Object.class} si elle est inconnue
+     */
+    public static Class<?> typeArgument(Type type, Class<?> target, int index) {
+        Type[] arguments = typeArguments(type, target);
+        return arguments == null || index >= arguments.length ? Object.class : rawType(arguments[index]);
+    }
+
+    /**
+     * Arguments de type d'un super-type générique, vus depuis un type.
+     *
+     * @param type   le type de départ
+     * @param target une classe générique
+     * @return les arguments de {@code target}, des variables libres si {@code type} est brut, ou null si
+     * {@code target} n'est pas un super-type de {@code type}
+     */
+    public static Type[] typeArguments(Type type, Class<?> target) {
+        Class<?> raw = rawType(type);
+        if (!target.isAssignableFrom(raw)) {
+            return null;
+        }
+        Map<TypeVariable<?>, Type> arguments = new HashMap<>();
+        if (type instanceof ParameterizedType) {
+            TypeVariable<?>[] variables = raw.getTypeParameters();
+            Type[] actual = ((ParameterizedType) type).getActualTypeArguments();
+            for (int i = 0; i < variables.length && i < actual.length; i++) {
+                arguments.put(variables[i], actual[i]);
+            }
+        }
+        Map<TypeVariable<?>, Type> bindings = ClassMetadata.of(raw).typeBindings();
+        TypeVariable<?>[] variables = target.getTypeParameters();
+        Type[] resolved = new Type[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            Type bound = raw == target ? variables[i] : bindings.getOrDefault(variables[i], variables[i]);
+            resolved[i] = substitute(bound, arguments);
+        }
+        return resolved;
+    }
+
+    /**
+     * Classe brute d'un type : la classe d'un type paramétré, la borne d'un joker ou d'une variable de type, un
+     * tableau de la classe brute des éléments d'un tableau générique.
+     *
+     * @param type le type
+     * @return la classe brute
+     */
+    public static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            return rawType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return rawType(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * Calcule les liaisons des variables de type de tous les super-types d'une classe, exprimées en fonction des
+     * variables de la classe elle-même.
+     */
+    static Map<TypeVariable<?>, Type> bindings(Class<?> clazz) {
+        Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        Class<?> superclass = clazz.getSuperclass();
+        if (superclass != null) {
+            bind(clazz.getGenericSuperclass(), superclass, bindings);
+        }
+        Type[] genericInterfaces = clazz.getGenericInterfaces();
+        Class<?>[] interfaces = clazz.getInterfaces();
+        for (int i = 0; i < interfaces.length; i++) {
+            bind(genericInterfaces[i], interfaces[i], bindings);
+        }
+        return bindings;
+    }
+
+    /**
+     * Ajoute les liaisons d'un super-type direct et, par substitution, celles de ses propres super-types.
+     */
+    private static void bind(Type supertype, Class<?> raw, Map<TypeVariable<?>, Type> bindings) {
+        Map<TypeVariable<?>, Type> direct = new HashMap<>();
+        if (supertype instanceof ParameterizedType) {
+            TypeVariable<?>[] variables = raw.getTypeParameters();
+            Type[] actual = ((ParameterizedType) supertype).getActualTypeArguments();
+            for (int i = 0; i < variables.length; i++) {
+                direct.put(variables[i], actual[i]);
+            }
+        }
+        bindings.putAll(direct);
+        for (Map.Entry<TypeVariable<?>, Type> inherited : ClassMetadata.of(raw).typeBindings().entrySet()) {
+            bindings.putIfAbsent(inherited.getKey(), substitute(inherited.getValue(), direct));
+        }
+    }
+
+    /**
+     * Remplace les variables de type d'un type par leur liaison.
+     *
+     * @param type     le type
+     * @param bindings les liaisons ; une variable absente est conservée
+     * @return le type substitué, {@code type} lui-même s'il ne contient aucune variable liée
+     */
+    static Type substitute(Type type, Map<TypeVariable<?>, Type> bindings) {
+        if (bindings.isEmpty() || type instanceof Class) {
+            return type;
+        }
+        if (type instanceof TypeVariable) {
+            Type bound = bindings.get(type);
+            return bound == null ? type : bound;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            Type[] arguments = substitute(parameterized.getActualTypeArguments(), bindings);
+            Type ownerType = parameterized.getOwnerType() == null
+                    ? null
+                    : substitute(parameterized.getOwnerType(), bindings);
+            return new ResolvedParameterizedType((Class<?>) parameterized.getRawType(), arguments, ownerType);
+        }
+        if (type instanceof GenericArrayType) {
+            Type component = substitute(((GenericArrayType) type).getGenericComponentType(), bindings);
+            return component instanceof Class
+                    ? Array.newInstance((Class<?>) component, 0).getClass()
+                    : new ResolvedGenericArrayType(component);
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcard = (WildcardType) type;
+            return new ResolvedWildcardType(substitute(wildcard.getUpperBounds(), bindings),
+                    substitute(wildcard.getLowerBounds(), bindings));
+        }
+        return type;
+    }
+
+    private static Type[] substitute(Type[] types, Map<TypeVariable<?>, Type> bindings) {
+        Type[] substituted = new Type[types.length];
+        for (int i = 0; i < types.length; i++) {
+            substituted[i] = substitute(types[i], bindings);
+        }
+        return substituted;
+    }
+
+    private static String typeName(Type type) {
+        return type instanceof Class ? ((Class<?>) type).getName() : type.toString();
+    }
+
+    /**
+     * Type paramétré obtenu par substitution, égal à tout {@link ParameterizedType} de même classe, propriétaire et
+     * arguments.
+     */
+    private static final class ResolvedParameterizedType implements ParameterizedType {
+        private final Class<?> rawType;
+        private final Type[] arguments;
+        private final Type ownerType;
+
+        private ResolvedParameterizedType(Class<?> rawType, Type[] arguments, Type ownerType) {
+            this.rawType = rawType;
+            this.arguments = arguments;
+            this.ownerType = ownerType;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType that = (ParameterizedType) other;
+            return rawType.equals(that.getRawType()) && Objects.equals(ownerType, that.getOwnerType())
+                    && Arrays.equals(arguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(arguments) ^ Objects.hashCode(ownerType) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder name = new StringBuilder(rawType.getName()).append('<');
+            for (int i = 0; i < arguments.length; i++) {
+                name.append(i == 0 ? "" : ", ").append(typeName(arguments[i]));
+            }
+            return name.append('>').toString();
+        }
+    }
+
+    private static final class ResolvedGenericArrayType implements GenericArrayType {
+        private final Type componentType;
+
+        private ResolvedGenericArrayType(Type componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return componentType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof GenericArrayType
+                    && componentType.equals(((GenericArrayType) other).getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return componentType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return typeName(componentType) + "[]";
+        }
+    }
+
+    private static final class ResolvedWildcardType implements WildcardType {
+        private final Type[] upperBounds;
+        private final Type[] lowerBounds;
+
+        private ResolvedWildcardType(Type[] upperBounds, Type[] lowerBounds) {
+            this.upperBounds = upperBounds;
+            this.lowerBounds = lowerBounds;
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof WildcardType)) {
+                return false;
+            }
+            WildcardType that = (WildcardType) other;
+            return Arrays.equals(upperBounds, that.getUpperBounds()) && Arrays.equals(lowerBounds, that.getLowerBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(upperBounds) ^ Arrays.hashCode(lowerBounds);
+        }
+
+        @Override
+        public String toString() {
+            if (lowerBounds.length > 0) {
+                return "? super " + typeName(lowerBounds[0]);
+            }
+            return upperBounds.length == 0 || upperBounds[0] == Object.class ? "?" : "? extends " + typeName(upperBounds[0]);
+        }
+    }
+}
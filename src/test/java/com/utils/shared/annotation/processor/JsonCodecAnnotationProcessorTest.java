@@ -0,0 +1,163 @@
+package com.utils.shared.annotation.processor;
+
+import com.utils.shared.util.JsonCodec;
+import com.utils.shared.util.JsonUtil;
+import com.utils.shared.util.JsonWriterConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class JsonCodecAnnotationProcessorTest {
+
+    private static final String PRODUCT_SOURCE = "package demo;\n"
+            + "import com.utils.shared.annotation.JsonSerializable;\n"
+            + "import java.util.List;\n"
+            + "@JsonSerializable\n"
+            + "public class Product {\n"
+            + "    private static final String IGNORED = \"static\";\n"
+            + "    private String name;\n"
+            + "    private int stock;\n"
+            + "    private boolean available;\n"
+            + "    double price;\n"
+            + "    private char grade;\n"
+            + "    private List<String> tags;\n"
+            + "    private Supplier supplier;\n"
+            + "    public Product(String name, int stock, boolean available, double price, char grade, List<String> tags, Supplier supplier) {\n"
+            + "        this.name = name; this.stock = stock; this.available = available; this.price = price;\n"
+            + "        this.grade = grade; this.tags = tags; this.supplier = supplier;\n"
+            + "    }\n"
+            + "    public String getName() { return name; }\n"
+            + "    public int getStock() { return stock; }\n"
+            + "    public boolean isAvailable() { return available; }\n"
+            + "    char getGrade() { return grade; }\n"
+            + "    public List<String> getTags() { return tags; }\n"
+            + "    public Supplier getSupplier() { return supplier; }\n"
+            + "    @JsonSerializable\n"
+            + "    public static class Supplier {\n"
+            + "        private String city;\n"
+            + "        public Supplier(String city) { this.city = city; }\n"
+            + "        public String getCity() { return city.toUpperCase(); }\n"
+            + "    }\n"
+            + "}\n";
+
+    @Test
+    public void testProcess_GeneratesCodecUsedByJsonUtil() throws Exception {
+        Path output = Files.createTempDirectory("codec");
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(output, PRODUCT_SOURCE);
+        Assert.assertTrue(diagnostics.getDiagnostics().isEmpty(), diagnostics.getDiagnostics().toString());
+        Assert.assertTrue(Files.exists(output.resolve("demo/ProductJsonCodec.java")));
+        Assert.assertTrue(Files.exists(output.resolve("demo/Product_SupplierJsonCodec.java")));
+        String productCodec = new String(Files.readAllBytes(output.resolve("demo/ProductJsonCodec.java")),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(productCodec.contains("value.getName()"), productCodec);
+        Assert.assertTrue(productCodec.contains("value.price"), productCodec);
+        Assert.assertFalse(new String(Files.readAllBytes(output.resolve("demo/Product_SupplierJsonCodec.java")),
+                StandardCharsets.UTF_8).contains("getCity()"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> productClass = loader.loadClass("demo.Product");
+            Class<?> supplierClass = loader.loadClass("demo.Product$Supplier");
+            Assert.assertTrue(JsonCodec.class.isAssignableFrom(loader.loadClass("demo.ProductJsonCodec")));
+
+            Object supplier = supplierClass.getConstructor(String.class).newInstance("Lyon");
+            Object product = productClass.getConstructors()[0]
+                    .newInstance("Vis \"M4\"", 12, true, 0.25, 'A', Arrays.asList("a", "b"), supplier);
+            Object withoutTags = productClass.getConstructors()[0]
+                    .newInstance("Écrou", 0, false, 1.5, 'B', null, null);
+
+            Assert.assertEquals(JsonUtil.toJson(product),
+                    "{\"name\":\"Vis \\\"M4\\\"\",\"stock\":12,\"available\":true,\"price\":0.25,\"grade\":\"A\","
+                            + "\"tags\":[\"a\",\"b\"],\"supplier\":{\"city\":\"Lyon\"}}");
+            Assert.assertEquals(JsonUtil.toJson(withoutTags, true),
+                    "{\n  \"name\": \"Écrou\",\n  \"stock\": 0,\n  \"available\": false,\n  \"price\": 1.5,\n  \"grade\": \"B\"\n}");
+            // Le getter de city transforme la valeur : le codec lit le champ, comme la réflexion
+            Assert.assertEquals(JsonUtil.toJson(supplier), "{\"city\":\"Lyon\"}");
+            Assert.assertEquals(JsonUtil.toJson(supplier, new JsonWriterConfig().keyOrder(JsonWriterConfig.KeyOrder.ALPHABETICAL)),
+                    "{\"city\":\"Lyon\"}");
+        }
+    }
+
+    @Test
+    public void testProcess_PrivateFieldWithoutGetter_ReadsThroughFieldAccessor() throws Exception {
+        String source = "package demo;\n"
+                + "@com.utils.shared.annotation.JsonSerializable\n"
+                + "public class Hidden {\n"
+                + "    private String secret = \"s\";\n"
+                + "    private long count = 3L;\n"
+                + "    private char grade = 'B';\n"
+                + "}\n";
+        Path output = Files.createTempDirectory("codec");
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(output, source);
+        Assert.assertTrue(diagnostics.getDiagnostics().isEmpty(), diagnostics.getDiagnostics().toString());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Assert.assertTrue(JsonCodec.class.isAssignableFrom(loader.loadClass("demo.HiddenJsonCodec")));
+            Object hidden = loader.loadClass("demo.Hidden").getConstructor().newInstance();
+            Assert.assertEquals(JsonUtil.toJson(hidden), "{\"secret\":\"s\",\"count\":3,\"grade\":\"B\"}");
+        }
+    }
+
+    @Test
+    public void testProcess_InheritedFields_WrittenFromRootClass() throws Exception {
+        String source = "package demo;\n"
+                + "abstract class Item {\n"
+                + "    private String label;\n"
+                + "    protected int code;\n"
+                + "    Item(String label, int code) { this.label = label; this.code = code; }\n"
+                + "    public String getLabel() { return label; }\n"
+                + "}\n"
+                + "@com.utils.shared.annotation.JsonSerializable\n"
+                + "public class Tool extends Item {\n"
+                + "    private String code;\n"
+                + "    private double weight;\n"
+                + "    public Tool(String label, String code, double weight) { super(label, 7); this.code = code; this.weight = weight; }\n"
+                + "    public String getCode() { return code; }\n"
+                + "    public double getWeight() { return weight; }\n"
+                + "}\n";
+        Path output = Files.createTempDirectory("codec");
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(output, source);
+        Assert.assertTrue(diagnostics.getDiagnostics().isEmpty(), diagnostics.getDiagnostics().toString());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Object tool = loader.loadClass("demo.Tool").getConstructors()[0].newInstance("Marteau", "M-01", 0.5);
+            Assert.assertTrue(JsonCodec.class.isAssignableFrom(loader.loadClass("demo.ToolJsonCodec")));
+            // Le champ code de Item est masqué par celui de Tool, comme pour la sérialisation par réflexion
+            String expected = "{\"label\":\"Marteau\",\"code\":\"M-01\",\"weight\":0.5}";
+            Assert.assertEquals(JsonUtil.toJson(tool), expected);
+        }
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(Path output, String source) throws IOException {
+        String className = source.substring(source.indexOf("public class ") + 13).split("[ {]")[0];
+        Path sourceFile = output.resolve("demo").resolve(className + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            String classpath = new File(JsonUtil.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+            List<String> options = Arrays.asList("-classpath", classpath, "-d", output.toString(), "-s", output.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(Collections.singletonList(sourceFile.toFile())));
+            task.setProcessors(Collections.singletonList(new JsonCodecAnnotationProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+}
@@ -0,0 +1,85 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.container.TesterContainer;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class ClassMetadataTest {
+
+    @Test
+    public void testOf_sameClass_returnsCachedMetadata() {
+        assertSame(ClassMetadata.of(TesterContainer.class), ClassMetadata.of(TesterContainer.class));
+    }
+
+    @Test
+    public void testFields_skipsStaticFieldsAndKeepsDeclarationOrder() {
+        Field[] fields = ClassMetadata.of(Tagged.class).fields();
+
+        assertEquals(fields.length, 3);
+        assertEquals(fields[0].getName(), "tags");
+        assertEquals(fields[1].getName(), "label");
+        assertEquals(fields[2].getName(), "scores");
+    }
+
+    @Test
+    public void testSortedFields_sortsByName() {
+        Field[] fields = ClassMetadata.of(Tagged.class).sortedFields();
+
+        assertEquals(fields[0].getName(), "label");
+        assertEquals(fields[1].getName(), "scores");
+        assertEquals(fields[2].getName(), "tags");
+    }
+
+    @Test
+    public void testField_findsStaticAndInstanceFields() {
+        ClassMetadata metadata = ClassMetadata.of(Tagged.class);
+
+        assertNotNull(metadata.field("label"));
+        assertNotNull(metadata.field("COUNT"));
+        assertNull(metadata.field("missing"));
+    }
+
+    @Test
+    public void testElementType_resolvesFirstTypeArgument() {
+        ClassMetadata metadata = ClassMetadata.of(Tagged.class);
+
+        assertEquals(metadata.elementType("tags"), String.class);
+        assertEquals(metadata.elementType("scores"), String.class);
+        assertEquals(metadata.elementType("label"), Object.class);
+        assertEquals(metadata.elementType("missing"), Object.class);
+    }
+
+    @Test
+    public void testConstructor_noArgConstructorMissing_returnsNull() {
+        assertNotNull(ClassMetadata.of(TesterContainer.class).constructor());
+        assertNull(ClassMetadata.of(Integer.class).constructor());
+    }
+
+    @Test
+    public void testOf_platformClassNotTraversed_leavesFieldsInaccessible() {
+        ClassMetadata metadata = ClassMetadata.of(BitSet.class);
+
+        assertNotNull(metadata.constructor());
+        metadata.typeBindings();
+        metadata.fieldIndex();
+
+        assertFalse(metadata.field("words").canAccess(new BitSet()));
+    }
+
+    static class Tagged {
+        static int COUNT;
+        List<String> tags;
+        String label;
+        Map<String, Integer> scores;
+    }
+}
@@ -0,0 +1,124 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.container.TesterContainer;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class FieldAccessorTest {
+
+    @Test
+    public void testOf_sameField_returnsCachedAccessor() {
+        assertSame(FieldAccessor.of(ReflectionUtil.getField("name", TesterContainer.class)),
+                FieldAccessor.of(ReflectionUtil.getField("name", TesterContainer.class)));
+    }
+
+    @Test
+    public void testGetAndSet_objectAndPrimitiveFields() {
+        TesterContainer container = new TesterContainer();
+        FieldAccessor name = accessor("name");
+        FieldAccessor age = accessor("age");
+
+        name.set(container, "John Doe");
+        age.set(container, 42);
+
+        assertEquals(name.get(container), "John Doe");
+        assertEquals(age.get(container), 42);
+    }
+
+    @Test
+    public void testPrimitiveVariants_readAndWriteWithoutBoxing() {
+        TesterContainer container = new TesterContainer();
+        FieldAccessor age = accessor("age");
+        FieldAccessor active = accessor("active");
+
+        age.setInt(container, 7);
+        active.setBoolean(container, true);
+
+        assertEquals(container.getAge(), 7);
+        assertEquals(age.getInt(container), 7);
+        assertEquals(age.getLong(container), 7L);
+        assertEquals(age.getDouble(container), 7.0);
+        assertTrue(active.getBoolean(container));
+    }
+
+    @Test
+    public void testCopy_copiesValueBetweenObjects() {
+        TesterContainer source = new TesterContainer();
+        TesterContainer target = new TesterContainer();
+        source.setAge(12);
+        source.setName("John Doe");
+
+        accessor("age").copy(source, target);
+        accessor("name").copy(source, target);
+
+        assertEquals(target.getAge(), 12);
+        assertEquals(target.getName(), "John Doe");
+    }
+
+    @Test
+    public void testSet_finalField_writesValue() {
+        Holder holder = new Holder();
+
+        FieldAccessor.of(ReflectionUtil.getField("id", Holder.class)).setLong(holder, 12L);
+
+        assertEquals(holder.id, 12L);
+    }
+
+    @Test
+    public void testGetAndSet_staticField_ignoresObject() {
+        FieldAccessor counter = FieldAccessor.of(ReflectionUtil.getField("counter", Holder.class));
+
+        counter.setInt(null, 3);
+
+        assertEquals(Holder.counter, 3);
+        assertEquals(counter.getInt(new Holder()), 3);
+    }
+
+    @Test(expectedExceptions = ReflectionUtil.ReflectionException.class)
+    public void testSet_wrongValueType_throwsReflectionException() {
+        accessor("age").set(new TesterContainer(), "quarante-deux");
+    }
+
+    @Test(expectedExceptions = ReflectionUtil.ReflectionException.class)
+    public void testGetInt_nonNumericField_throwsReflectionException() {
+        accessor("name").getInt(new TesterContainer());
+    }
+
+    @Test(expectedExceptions = ReflectionUtil.ReflectionException.class)
+    public void testGet_objectOfAnotherClass_throwsReflectionException() {
+        accessor("name").get(new Holder());
+    }
+
+    @Test
+    public void testTypedVariants_wideningConversions() {
+        Holder holder = new Holder();
+        FieldAccessor level = FieldAccessor.of(ReflectionUtil.getField("level", Holder.class));
+
+        level.setInt(holder, 12);
+
+        assertEquals(holder.level, 12L);
+        assertEquals(level.getDouble(holder), 12.0);
+    }
+
+    @Test(expectedExceptions = ReflectionUtil.ReflectionException.class)
+    public void testSetDouble_longField_throwsReflectionException() {
+        FieldAccessor.of(ReflectionUtil.getField("level", Holder.class)).setDouble(new Holder(), 1.5);
+    }
+
+    private static FieldAccessor accessor(String name) {
+        return FieldAccessor.of(ReflectionUtil.getField(name, TesterContainer.class));
+    }
+
+    static class Holder {
+        static int counter;
+        private final long id;
+        private long level;
+
+        Holder() {
+            this.id = 0L;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.container.TesterContainer;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class FieldIndexTest {
+
+    @Test
+    public void testOf_sameClass_returnsCachedIndex() {
+        assertSame(FieldIndex.of(TesterContainer.class), FieldIndex.of(TesterContainer.class));
+    }
+
+    @Test
+    public void testFields_inheritedFieldsFirstInDeclarationOrder() {
+        List<String> names = new ArrayList<>();
+        for (Field field : FieldIndex.of(Child.class).fields()) {
+            names.add(field.getDeclaringClass().getSimpleName() + "." + field.getName());
+        }
+
+        assertEquals(names, List.of("Parent.id", "Parent.label", "Child.label", "Child.count"));
+    }
+
+    @Test
+    public void testGet_shadowedName_returnsMostDerivedField() {
+        FieldIndex index = FieldIndex.of(Child.class);
+
+        assertEquals(index.get("label").getDeclaringClass(), Child.class);
+        assertEquals(index.get("id").getDeclaringClass(), Parent.class);
+        assertEquals(index.indexOf("count"), 3);
+        assertSame(index.field(index.indexOf("label")), index.get("label"));
+    }
+
+    @Test
+    public void testGet_missingOrStaticField_returnsNull() {
+        FieldIndex index = FieldIndex.of(Child.class);
+
+        assertNull(index.get("missing"));
+        assertNull(index.get("TOTAL"));
+        assertEquals(index.indexOf("missing"), -1);
+        assertEquals(FieldIndex.of(Object.class).size(), 0);
+    }
+
+    @Test
+    public void testGet_wideClass_findsEveryField() {
+        FieldIndex index = FieldIndex.of(Wide.class);
+
+        assertEquals(index.size(), Wide.class.getDeclaredFields().length);
+        for (Field field : Wide.class.getDeclaredFields()) {
+            assertEquals(index.get(field.getName()), field);
+        }
+    }
+
+    @Test
+    public void testOf_jdkSuperclass_indexesSameFieldsAsGetAllFields() {
+        FieldIndex index = FieldIndex.of(NamedList.class);
+
+        assertEquals(index.size(), ReflectionUtil.getAllFields(NamedList.class).length);
+        assertEquals(index.field(0).getName(), "name");
+        assertNull(index.get("size"));
+    }
+
+    @Test(expectedExceptions = ReflectionUtil.ReflectionException.class)
+    public void testGetField_jdkSuperclassField_isNotFound() {
+        ReflectionUtil.getField("size", NamedList.class);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testFields_isImmutable() {
+        FieldIndex.of(Child.class).fields().clear();
+    }
+
+    @Test
+    public void testGetField_inheritedField_isFound() {
+        assertEquals(ReflectionUtil.getField("id", Child.class).getDeclaringClass(), Parent.class);
+    }
+
+    static class Parent {
+        long id;
+        String label;
+    }
+
+    static class Child extends Parent {
+        static int TOTAL;
+        String label;
+        int count;
+    }
+
+    static class NamedList extends ArrayList<String> {
+        String name;
+    }
+
+    static class Wide {
+        int a, b, c, d, e, f, g, h, i, j, k, l, m, n, o, p, q, r, s, t, u, v, w, x, y, z;
+        int aa, bb, cc, dd, ee, ff, gg, hh, ii, jj, kk, ll, mm, nn, oo, pp;
+    }
+}
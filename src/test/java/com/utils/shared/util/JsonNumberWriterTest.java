@@ -0,0 +1,141 @@
+package com.utils.shared.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.SplittableRandom;
+
+public class JsonNumberWriterTest {
+
+    private final char[] scratch = new char[JsonNumberWriter.SCRATCH_SIZE];
+
+    @Test
+    public void testWriteLong_MatchesLongToString() {
+        long[] values = {0, 1, -1, 9, 10, 99, 100, -100, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                (long) Integer.MIN_VALUE - 1, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+        for (long value : values) {
+            Assert.assertEquals(writeLong(value), Long.toString(value));
+        }
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+            Assert.assertEquals(writeLong(value), Long.toString(value));
+        }
+    }
+
+    @Test
+    public void testWriteDouble_MatchesDoubleToString() {
+        double[] values = {0.0, -0.0, 1.0, -1.0, 0.1, 0.5, 100.0, 1234567.0, 9999999.0, 1.0E7, 0.001, 9.99E-4,
+                123456.789, 3.141592653589793, 1.0E21, 1.0E-5, Double.MAX_VALUE, Double.MIN_NORMAL, Long.MAX_VALUE};
+        for (double value : values) {
+            Assert.assertEquals(writeDouble(value), Double.toString(value));
+        }
+    }
+
+    @Test
+    public void testWriteDouble_ShortestRoundTrip() {
+        // Avant Java 19, Double.toString ne produit pas toujours la plus courte représentation :
+        // l'égalité stricte n'est vérifiée que sur les JDK qui implémentent la spécification actuelle
+        boolean shortestJdk = Runtime.version().feature() >= 19;
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 200_000; i++) {
+            double value = i % 2 == 0
+                    ? Double.longBitsToDouble(random.nextLong())
+                    : random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+            if (!Double.isFinite(value)) {
+                continue;
+            }
+            String written = writeDouble(value);
+            String expected = Double.toString(value);
+            Assert.assertEquals(Double.parseDouble(written), value, written);
+            Assert.assertTrue(written.length() <= expected.length(), written + " / " + expected);
+            if (shortestJdk) {
+                Assert.assertEquals(written, expected);
+            }
+        }
+    }
+
+    @Test
+    public void testWriteDouble_Subnormals() {
+        for (long bits = 1; bits < 10_000; bits++) {
+            double value = Double.longBitsToDouble(bits);
+            Assert.assertEquals(Double.parseDouble(writeDouble(value)), value);
+        }
+        Assert.assertEquals(writeDouble(Double.MIN_VALUE), "4.9E-324");
+    }
+
+    @Test
+    public void testWriteDouble_NonFinite_WritesNull() {
+        Assert.assertEquals(writeDouble(Double.NaN), "null");
+        Assert.assertEquals(writeDouble(Double.POSITIVE_INFINITY), "null");
+        Assert.assertEquals(writeDouble(Double.NEGATIVE_INFINITY), "null");
+        Assert.assertEquals(writeFloat(Float.NaN), "null");
+        Assert.assertEquals(writeFloat(Float.NEGATIVE_INFINITY), "null");
+    }
+
+    @Test
+    public void testWriteFloat_MatchesFloatToString() {
+        float[] values = {0.0f, -0.0f, 1.0f, -1.0f, 0.1f, 0.5f, 2.5f, 100.0f, 1234567.0f, 9999999.0f, 1.0E7f, 0.001f,
+                9.99E-4f, 3.1415927f, 1.0E-5f, Float.MAX_VALUE, Float.MIN_VALUE};
+        for (float value : values) {
+            Assert.assertEquals(writeFloat(value), Float.toString(value));
+        }
+    }
+
+    @Test
+    public void testWriteFloat_ShortestRoundTrip() {
+        // Comme pour les doubles, Float.toString n'est la plus courte représentation qu'à partir de Java 19
+        boolean shortestJdk = Runtime.version().feature() >= 19;
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 200_000; i++) {
+            float value = i % 2 == 0
+                    ? Float.intBitsToFloat(random.nextInt())
+                    : (float) (random.nextDouble() * Math.pow(10, random.nextInt(20) - 10));
+            if (!Float.isFinite(value)) {
+                continue;
+            }
+            String written = writeFloat(value);
+            String expected = Float.toString(value);
+            Assert.assertEquals(Float.parseFloat(written), value, written);
+            Assert.assertTrue(written.length() <= expected.length(), written + " / " + expected);
+            if (shortestJdk) {
+                Assert.assertEquals(written, expected);
+            }
+        }
+    }
+
+    @Test
+    public void testWriteFloat_Subnormals() {
+        for (int bits = 1; bits < 10_000; bits++) {
+            float value = Float.intBitsToFloat(bits);
+            Assert.assertEquals(Float.parseFloat(writeFloat(value)), value);
+        }
+        Assert.assertEquals(writeFloat(Float.MIN_VALUE), "1.4E-45");
+    }
+
+    @Test
+    public void testToJson_NumbersInArraysAndObjects() {
+        Assert.assertEquals(JsonUtil.toJson(new double[]{1.5, Double.NaN, -0.0}), "[1.5,null,-0.0]");
+        Assert.assertEquals(JsonUtil.toJson(new long[]{Long.MIN_VALUE, 0}), "[" + Long.MIN_VALUE + ",0]");
+        Assert.assertEquals(JsonUtil.toJson(new Object[]{(byte) -3, (short) 300, 12, 2.5f, Double.POSITIVE_INFINITY}),
+                "[-3,300,12,2.5,null]");
+    }
+
+    private String writeLong(long value) {
+        StringBuilder out = new StringBuilder();
+        JsonNumberWriter.writeLong(out, value, scratch);
+        return out.toString();
+    }
+
+    private String writeDouble(double value) {
+        StringBuilder out = new StringBuilder();
+        JsonNumberWriter.writeDouble(out, value, scratch);
+        return out.toString();
+    }
+
+    private String writeFloat(float value) {
+        StringBuilder out = new StringBuilder();
+        JsonNumberWriter.writeFloat(out, value, scratch);
+        return out.toString();
+    }
+}
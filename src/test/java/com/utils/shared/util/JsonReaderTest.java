@@ -0,0 +1,113 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.container.TesterContainer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+public class JsonReaderTest {
+
+    @Test
+    public void testNextToken_ReadsAllTokens() {
+        JsonReader reader = new JsonReader(new StringReader("{\"a\":[1,2.5,\"x\",true,null],\"b\":{}}"));
+        Assert.assertEquals(reader.nextToken(), JsonToken.BEGIN_OBJECT);
+        Assert.assertEquals(reader.readName(), "a");
+        Assert.assertEquals(reader.nextToken(), JsonToken.BEGIN_ARRAY);
+        Assert.assertEquals(reader.readLong(), 1L);
+        Assert.assertEquals(reader.readDouble(), 2.5);
+        Assert.assertEquals(reader.readString(), "x");
+        Assert.assertTrue(reader.readBoolean());
+        reader.readNull();
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertEquals(reader.nextToken(), JsonToken.END_ARRAY);
+        Assert.assertEquals(reader.readName(), "b");
+        Assert.assertEquals(reader.nextToken(), JsonToken.BEGIN_OBJECT);
+        Assert.assertEquals(reader.nextToken(), JsonToken.END_OBJECT);
+        Assert.assertEquals(reader.nextToken(), JsonToken.END_OBJECT);
+        Assert.assertEquals(reader.nextToken(), JsonToken.END_DOCUMENT);
+    }
+
+    @Test
+    public void testSkipValue_SkipsNestedValues() {
+        JsonReader reader = new JsonReader(new StringReader("{\"skip\":{\"a\":[1,{\"b\":[]}]},\"keep\":12.30}"));
+        reader.nextToken();
+        Assert.assertEquals(reader.readName(), "skip");
+        Assert.assertEquals(reader.peek(), JsonToken.BEGIN_OBJECT);
+        reader.skipValue();
+        Assert.assertEquals(reader.readName(), "keep");
+        Assert.assertEquals(reader.readBigDecimal(), new BigDecimal("12.30"));
+    }
+
+    @Test
+    public void testReadValue_StreamsLargeArrayOfObjects() throws IOException {
+        int count = 100_000;
+        try (JsonReader reader = new JsonReader(new GeneratedArrayReader(count))) {
+            Assert.assertEquals(reader.nextToken(), JsonToken.BEGIN_ARRAY);
+            long ageSum = 0;
+            int read = 0;
+            while (reader.hasNext()) {
+                TesterContainer container = reader.readValue(TesterContainer.class);
+                Assert.assertEquals(container.getName(), "name" + read);
+                ageSum += container.getAge();
+                read++;
+            }
+            Assert.assertEquals(reader.nextToken(), JsonToken.END_ARRAY);
+            Assert.assertEquals(read, count);
+            Assert.assertEquals(ageSum, (long) count * (count - 1) / 2);
+        }
+    }
+
+    @Test
+    public void testInputStream_DecodesUtf8() {
+        byte[] json = "[\"Besançon €\"]".getBytes(StandardCharsets.UTF_8);
+        JsonReader reader = new JsonReader(new ByteArrayInputStream(json));
+        reader.nextToken();
+        Assert.assertEquals(reader.readString(), "Besançon €");
+    }
+
+    @Test(expectedExceptions = JsonUtil.JsonParsingException.class)
+    public void testReadString_WrongToken_ThrowsJsonParsingException() {
+        new JsonReader(new StringReader("42")).readString();
+    }
+
+    /**
+     * Génère un tableau JSON d'objets à la volée, sans jamais le matérialiser.
+     */
+    private static class GeneratedArrayReader extends Reader {
+        private final int count;
+        private int index = -1;
+        private String current = "[";
+        private int position;
+
+        GeneratedArrayReader(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == current.length()) {
+                index++;
+                if (index > count) {
+                    return -1;
+                }
+                current = index == count ? "]" : (index > 0 ? "," : "")
+                        + "{\"name\":\"name" + index + "\",\"age\":" + index + ",\"active\":true}";
+                position = 0;
+            }
+            int read = Math.min(length, current.length() - position);
+            current.getChars(position, position + read, buffer, offset);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
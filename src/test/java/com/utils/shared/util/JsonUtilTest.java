@@ -1,12 +1,31 @@
 package com.utils.shared.util;
 
+import com.utils.shared.util.container.TesterContainer;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
 
 public class JsonUtilTest {
 
@@ -48,6 +67,20 @@ public class JsonUtilTest {
         Assert.assertEquals(expectedJson, json);
     }
 
+    @Test
+    public void testToJson_PrimitiveArrays_ReturnsJsonArrays() {
+        Assert.assertEquals(JsonUtil.toJson(new int[]{1, -2, Integer.MIN_VALUE}), "[1,-2,-2147483648]");
+        Assert.assertEquals(JsonUtil.toJson(new long[]{Long.MAX_VALUE}), "[9223372036854775807]");
+        Assert.assertEquals(JsonUtil.toJson(new double[]{0.1, -2.5E-8, 1.0E21}), "[0.1,-2.5E-8,1.0E21]");
+        Assert.assertEquals(JsonUtil.toJson(new float[]{1.5f}), "[1.5]");
+        Assert.assertEquals(JsonUtil.toJson(new short[]{7}), "[7]");
+        Assert.assertEquals(JsonUtil.toJson(new byte[]{-1, 2}), "[-1,2]");
+        Assert.assertEquals(JsonUtil.toJson(new boolean[]{true, false}), "[true,false]");
+        Assert.assertEquals(JsonUtil.toJson(new char[]{'a', '"'}), "[\"a\",\"\\\"\"]");
+        Assert.assertEquals(JsonUtil.toJson(new int[0], true), "[]");
+        Assert.assertEquals(JsonUtil.toJson(new int[]{1, 2}, true), "[\n  1,\n  2\n]");
+    }
+
     @Test
     public void testToJson_CollectionObject_ReturnsJsonArray() {
         List<String> list = new ArrayList<>();
@@ -69,4 +102,540 @@ public class JsonUtilTest {
         String json = JsonUtil.toJson(map);
         Assert.assertEquals(expectedJson, json);
     }
+
+    @Test
+    public void testToJson_CustomObject_ReturnsJsonObjectWithoutNullFields() {
+        TesterContainer container = new TesterContainer();
+        container.setName("John \"Doe\"");
+        container.setAge(30);
+        String expectedJson = "{\"name\":\"John \\\"Doe\\\"\",\"age\":30,\"active\":false}";
+        Assert.assertEquals(JsonUtil.toJson(container), expectedJson);
+
+        container.setName(null);
+        Assert.assertEquals(JsonUtil.toJson(container), "{\"age\":30,\"active\":false}");
+    }
+
+    @Test
+    public void testToJson_CustomObjectWithIndentation_ReturnsIndentedJsonObject() {
+        TesterContainer container = new TesterContainer();
+        container.setName("John");
+        String expectedJson = "{\n  \"name\": \"John\",\n  \"age\": 0,\n  \"active\": false\n}";
+        Assert.assertEquals(JsonUtil.toJson(container, true), expectedJson);
+    }
+
+    @Test
+    public void testToJson_WriterConfig_IndentWidthNewlineAndKeyOrder() {
+        TesterContainer container = new TesterContainer();
+        container.setName("John");
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("b", Collections.singletonList(container));
+        map.put("a", 1);
+        JsonWriterConfig config = new JsonWriterConfig()
+                .indent(4)
+                .newline("\r\n")
+                .keyOrder(JsonWriterConfig.KeyOrder.ALPHABETICAL);
+        String expectedJson = "{\r\n    \"a\": 1,\r\n    \"b\": [\r\n        {\r\n            \"active\": false,\r\n"
+                + "            \"age\": 0,\r\n            \"name\": \"John\"\r\n        }\r\n    ]\r\n}";
+        Assert.assertEquals(JsonUtil.toJson(map, config), expectedJson);
+        Assert.assertEquals(JsonUtil.toJson(map, config.compact()), "{\"a\":1,\"b\":[{\"active\":false,\"age\":0,\"name\":\"John\"}]}");
+    }
+
+    @Test
+    public void testToJson_WriterConfig_DeepNestingMatchesBooleanIndent() {
+        List<Object> root = new ArrayList<>();
+        List<Object> current = root;
+        for (int i = 0; i < 50; i++) {
+            List<Object> child = new ArrayList<>();
+            current.add(i);
+            current.add(child);
+            current = child;
+        }
+        Assert.assertEquals(JsonUtil.toJson(root, new JsonWriterConfig().indent(2)), JsonUtil.toJson(root, true));
+        Assert.assertTrue(JsonUtil.toJson(root, true).contains("\n" + String.join("", Collections.nCopies(50, "  ")) + "49"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testWriterConfig_NegativeIndent_ThrowsIllegalArgumentException() {
+        new JsonWriterConfig().indent(-1);
+    }
+
+    @Test
+    public void testToJson_CyclicObject_ReturnsEmptyObjectForCycle() {
+        Node node = new Node();
+        node.next = node;
+        Assert.assertEquals(JsonUtil.toJson(node), "{\"next\":{}}");
+    }
+
+    @Test
+    public void testToJson_DeepCycle_BeyondPathStack_ReturnsEmptyObjectForCycle() {
+        Node[] nodes = new Node[40];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Node();
+            if (i > 0) {
+                nodes[i - 1].next = nodes[i];
+            }
+        }
+        nodes[39].next = nodes[20];
+        String prefix = String.join("", Collections.nCopies(40, "{\"next\":"));
+        String suffix = String.join("", Collections.nCopies(40, "}"));
+        Assert.assertEquals(JsonUtil.toJson(nodes[0]), prefix + "{}" + suffix);
+
+        nodes[39].next = nodes[3];
+        Assert.assertEquals(JsonUtil.toJson(nodes[0]), prefix + "{}" + suffix);
+    }
+
+    @Test
+    public void testToJson_AssumeAcyclic_SameOutputForTrees() {
+        TesterContainer shared = new TesterContainer();
+        shared.setName("shared");
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("left", Arrays.asList(shared, shared));
+        tree.put("right", Collections.singletonMap("deep", shared));
+        JsonWriterConfig acyclic = new JsonWriterConfig().assumeAcyclic();
+        Assert.assertEquals(JsonUtil.toJson(tree, acyclic), JsonUtil.toJson(tree));
+        Assert.assertEquals(JsonUtil.toJson(tree, acyclic.indent(2)), JsonUtil.toJson(tree, true));
+    }
+
+    @Test
+    public void testToJson_Parallel_ByteIdenticalToSequential() throws IOException {
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            TesterContainer container = new TesterContainer();
+            container.setName("name" + i);
+            container.setAge(i);
+            elements.add(i % 3 == 0 ? container : Arrays.asList(i, "v" + i, Collections.nCopies(600, i)));
+        }
+        JsonWriterConfig parallel = new JsonWriterConfig().parallel(500);
+        Assert.assertEquals(JsonUtil.toJson(elements, parallel), JsonUtil.toJson(elements));
+        Assert.assertEquals(JsonUtil.toJson(elements.toArray(), parallel), JsonUtil.toJson(elements.toArray()));
+        Assert.assertEquals(JsonUtil.toJson(elements, parallel.indent(2)), JsonUtil.toJson(elements, true));
+
+        StringWriter writer = new StringWriter();
+        JsonUtil.toJson(elements, writer, parallel);
+        Assert.assertEquals(writer.toString(), JsonUtil.toJson(elements, true));
+    }
+
+    @Test
+    public void testToJson_Parallel_DetectsCycleToAncestor() {
+        Group group = new Group();
+        group.members = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Node node = new Node();
+            node.next = i % 2 == 0 ? node : null;
+            group.members.add(i % 1000 == 0 ? group : node);
+        }
+        Assert.assertEquals(JsonUtil.toJson(group, new JsonWriterConfig().parallel(100)), JsonUtil.toJson(group));
+    }
+
+    @Test
+    public void testToJson_Appendable_WritesSameJsonAsString() throws IOException {
+        List<TesterContainer> containers = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            TesterContainer container = new TesterContainer();
+            container.setName("name" + i);
+            container.setAge(i);
+            containers.add(container);
+        }
+        StringWriter writer = new StringWriter();
+        JsonUtil.toJson(containers, writer, true);
+        Assert.assertEquals(writer.toString(), JsonUtil.toJson(containers, true));
+    }
+
+    @Test
+    public void testToJson_OutputStream_WritesUtf8Json() throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        map.put("city", "Besançon €");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtil.toJson(map, out, false);
+        Assert.assertEquals(out.toString(StandardCharsets.UTF_8), "{\"city\":\"Besançon €\"}");
+    }
+
+    @Test
+    public void testFromJson_RoundTrip_ReturnsEquivalentObject() {
+        Order order = new Order();
+        order.reference = "CMD-\"42\"\n";
+        order.quantity = 3;
+        order.price = 12.5;
+        order.amount = new BigDecimal("37.50");
+        order.tags = new ArrayList<>(Arrays.asList("a", "b"));
+        order.scores = new int[]{1, 2, 3};
+        order.customer = new TesterContainer();
+        order.customer.setName("John");
+        order.customer.setAge(30);
+
+        Order parsed = JsonUtil.fromJson(JsonUtil.toJson(order, true), Order.class);
+
+        Assert.assertEquals(parsed.reference, order.reference);
+        Assert.assertEquals(parsed.quantity, 3);
+        Assert.assertEquals(parsed.price, 12.5);
+        Assert.assertEquals(parsed.amount, new BigDecimal("37.50"));
+        Assert.assertEquals(parsed.tags, Arrays.asList("a", "b"));
+        Assert.assertEquals(parsed.scores, new int[]{1, 2, 3});
+        Assert.assertEquals(parsed.customer.getName(), "John");
+        Assert.assertEquals(parsed.customer.getAge(), 30);
+    }
+
+    @Test
+    public void testFromJson_UnknownFieldsAndUntypedValues() {
+        String json = "{\"unknown\":{\"a\":[1,{\"b\":null}]},\"status\":\"SHIPPED\",\"attributes\":{\"n\":1,\"d\":1.5,\"l\":[true,\"x\"]}}";
+        Order parsed = JsonUtil.fromJson(json, Order.class);
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("n", 1);
+        expected.put("d", 1.5);
+        expected.put("l", Arrays.asList(true, "x"));
+        Assert.assertEquals(parsed.status, Status.SHIPPED);
+        Assert.assertEquals(parsed.attributes, expected);
+    }
+
+    @Test
+    public void testFromJson_ReaderWithLargeEscapedString() throws IOException {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            value.append("\u00e9t\u00e9\t\"").append(i);
+        }
+        String json = JsonUtil.toJson(Collections.singletonList(value.toString()));
+        List<?> parsed = JsonUtil.fromJson(new StringReader(json), List.class);
+        Assert.assertEquals(parsed, Collections.singletonList(value.toString()));
+        Assert.assertEquals(JsonUtil.fromJson(json.getBytes(StandardCharsets.UTF_8), List.class), parsed);
+    }
+
+    @Test
+    public void testFromBinary_RoundTrip_ReturnsEquivalentObject() throws IOException {
+        Order order = new Order();
+        order.reference = "CMD-\u00e9t\u00e9-\ud83d\ude00";
+        order.quantity = -3;
+        order.price = 0.1;
+        order.amount = new BigDecimal("37.50");
+        order.tags = new ArrayList<>(Arrays.asList("a", "b"));
+        order.scores = new int[]{1, -200, Integer.MAX_VALUE};
+        order.customer = new TesterContainer();
+        order.customer.setName("John");
+        order.customer.setAge(30);
+
+        byte[] binary = JsonUtil.toBinary(order);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtil.toBinary(order, out);
+        Assert.assertEquals(out.toByteArray(), binary);
+
+        Order parsed = JsonUtil.fromBinary(new ByteArrayInputStream(binary), Order.class);
+        Assert.assertEquals(parsed.reference, order.reference);
+        Assert.assertEquals(parsed.quantity, -3);
+        Assert.assertEquals(parsed.price, 0.1);
+        Assert.assertEquals(parsed.amount, new BigDecimal("37.50"));
+        Assert.assertEquals(parsed.tags, Arrays.asList("a", "b"));
+        Assert.assertEquals(parsed.scores, order.scores);
+        Assert.assertEquals(parsed.customer.getName(), "John");
+        Assert.assertEquals(parsed.customer.getAge(), 30);
+    }
+
+    @Test
+    public void testFromBinary_UntypedValues_MatchJson() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("i", 7);
+        map.put("l", Long.MIN_VALUE);
+        map.put("d", 1.5);
+        map.put("f", 0.1f);
+        map.put("big", new BigDecimal("123456789012345678901234567890"));
+        map.put("nan", Double.NaN);
+        map.put("list", Arrays.asList(true, null, "x", 'c'));
+        Object fromJson = JsonUtil.fromJson(JsonUtil.toJson(map), Object.class);
+        Assert.assertEquals(JsonUtil.fromBinary(JsonUtil.toBinary(map), Object.class), fromJson);
+    }
+
+    @Test
+    public void testToBinary_RepeatedNames_WrittenOnce() {
+        List<TesterContainer> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            TesterContainer container = new TesterContainer();
+            container.setName("n" + i);
+            container.setAge(i);
+            list.add(container);
+        }
+        byte[] binary = JsonUtil.toBinary(list);
+        Assert.assertTrue(binary.length * 2 < JsonUtil.toJson(list).length());
+        List<?> parsed = JsonUtil.fromBinary(binary, List.class);
+        Assert.assertEquals(parsed, JsonUtil.fromJson(JsonUtil.toJson(list), List.class));
+    }
+
+    @Test
+    public void testToBinary_Cycle_WrittenAsEmptyObject() {
+        Node node = new Node();
+        node.next = node;
+        Assert.assertEquals(JsonUtil.fromBinary(JsonUtil.toBinary(node), Map.class),
+                Collections.singletonMap("next", Collections.emptyMap()));
+    }
+
+    @Test
+    public void testFromBinary_MalformedInput_ThrowsJsonParsingException() {
+        byte[] binary = JsonUtil.toBinary(Collections.singletonList("valeur"));
+        for (byte[] malformed : Arrays.asList(new byte[]{'{', '}'}, Arrays.copyOf(binary, binary.length - 1),
+                Arrays.copyOf(binary, binary.length + 1))) {
+            try {
+                JsonUtil.fromBinary(malformed, List.class);
+                Assert.fail("JsonParsingException attendue");
+            } catch (JsonUtil.JsonParsingException e) {
+                Assert.assertTrue(e.getMessage().startsWith("Erreur de format binaire"), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testToJson_Columnar_WritesNamesOnce() {
+        List<TesterContainer> list = Arrays.asList(container("Alice", 30), container(null, 40));
+        JsonWriterConfig config = new JsonWriterConfig().columnar();
+        Assert.assertEquals(JsonUtil.toJson(list, config),
+                "{\"columns\":[\"name\",\"age\",\"active\"],\"rows\":[[\"Alice\",30,false],[null,40,false]]}");
+        Assert.assertEquals(JsonUtil.toJson(list, config.indent(2).keyOrder(JsonWriterConfig.KeyOrder.ALPHABETICAL)),
+                "{\n  \"columns\": [\"active\", \"age\", \"name\"],\n  \"rows\": [\n"
+                        + "    [false, 30, \"Alice\"],\n    [false, 40, null]\n  ]\n}");
+    }
+
+    @Test
+    public void testToJson_Columnar_MixedElementsWrittenAsObjects() {
+        JsonWriterConfig config = new JsonWriterConfig().columnar();
+        List<Object> mixed = Arrays.asList(container("Alice", 30), Collections.singletonMap("a", 1));
+        Assert.assertEquals(JsonUtil.toJson(mixed, config), JsonUtil.toJson(mixed));
+        List<TesterContainer> withNull = Arrays.asList(container("Alice", 30), null);
+        Assert.assertEquals(JsonUtil.toJson(withNull, config), JsonUtil.toJson(withNull));
+        Assert.assertEquals(JsonUtil.toJson(Arrays.asList("a", "b"), config), "[\"a\",\"b\"]");
+    }
+
+    @Test
+    public void testFromJson_Columnar_RoundTrip() {
+        Group group = new Group();
+        group.members = new ArrayList<>(Arrays.asList(container("Alice", 30), container(null, 40)));
+        Order order = new Order();
+        order.reference = "CMD";
+        Order[] orders = {order, order};
+
+        JsonWriterConfig config = new JsonWriterConfig().columnar();
+        Group parsedGroup = JsonUtil.fromJson(JsonUtil.toJson(group, config), Group.class);
+        Assert.assertEquals(parsedGroup.members, JsonUtil.fromJson(JsonUtil.toJson(group), Group.class).members);
+
+        Order[] parsed = JsonUtil.fromJson(JsonUtil.toJson(orders, config), Order[].class);
+        Assert.assertEquals(parsed.length, 2);
+        Assert.assertEquals(parsed[1].reference, "CMD");
+        Assert.assertNull(parsed[1].tags);
+    }
+
+    @Test
+    public void testToJson_ValueTypes_WrittenAsIsoStrings() {
+        Event event = new Event();
+        event.date = LocalDate.of(2024, 2, 29);
+        event.instant = Instant.parse("2024-02-29T10:15:30.123Z");
+        event.zoned = ZonedDateTime.of(2024, 2, 29, 10, 15, 0, 0, ZoneId.of("Europe/Paris"));
+        event.zone = ZoneId.of("Europe/Paris");
+        event.duration = Duration.ofMinutes(90);
+        event.id = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        event.status = Status.SHIPPED;
+        event.note = Optional.of("urgent");
+        event.count = OptionalInt.empty();
+
+        String json = JsonUtil.toJson(event);
+        Assert.assertEquals(json, "{\"date\":\"2024-02-29\",\"instant\":\"2024-02-29T10:15:30.123Z\","
+                + "\"zoned\":\"2024-02-29T10:15+01:00[Europe/Paris]\",\"zone\":\"Europe/Paris\","
+                + "\"duration\":\"PT1H30M\",\"id\":\"123e4567-e89b-12d3-a456-426614174000\",\"status\":\"SHIPPED\","
+                + "\"note\":\"urgent\",\"count\":null}");
+
+        for (Event parsed : Arrays.asList(JsonUtil.fromJson(json, Event.class),
+                JsonUtil.fromBinary(JsonUtil.toBinary(event), Event.class))) {
+            Assert.assertEquals(parsed.date, event.date);
+            Assert.assertEquals(parsed.instant, event.instant);
+            Assert.assertEquals(parsed.zoned, event.zoned);
+            Assert.assertEquals(parsed.zone, event.zone);
+            Assert.assertEquals(parsed.duration, event.duration);
+            Assert.assertEquals(parsed.id, event.id);
+            Assert.assertEquals(parsed.status, Status.SHIPPED);
+            Assert.assertEquals(parsed.note, Optional.of("urgent"));
+            Assert.assertEquals(parsed.count, OptionalInt.empty());
+        }
+    }
+
+    @Test(expectedExceptions = JsonUtil.JsonParsingException.class)
+    public void testFromJson_InvalidDate_ThrowsJsonParsingException() {
+        JsonUtil.fromJson("{\"date\":\"29/02/2024\"}", Event.class);
+    }
+
+    @Test
+    public void testRegister_AdapterReplacesDefaultWriting() {
+        Order order = new Order();
+        order.reference = "CMD";
+        order.quantity = 2;
+        Assert.assertEquals(JsonUtil.toJson(Collections.singletonList(order)),
+                "[{\"reference\":\"CMD\",\"quantity\":2,\"price\":0.0}]");
+        JsonUtil.register(Order.class, (value, writer) -> writer.value(value.reference + " x" + value.quantity));
+        try {
+            Assert.assertEquals(JsonUtil.toJson(Collections.singletonList(order)), "[\"CMD x2\"]");
+        } finally {
+            JsonUtil.unregister(Order.class);
+        }
+        Assert.assertEquals(JsonUtil.toJson(order), "{\"reference\":\"CMD\",\"quantity\":2,\"price\":0.0}");
+    }
+
+    @Test
+    public void testRegister_InterfaceAdapterWritesObject() {
+        JsonName label = JsonName.of("label");
+        JsonUtil.register(CharSequence.class,
+                (value, writer) -> writer.object(value, (sequence, w) -> w.field(label, sequence.toString())));
+        try {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("builder", new StringBuilder("abc"));
+            map.put("string", "plain");
+            Assert.assertEquals(JsonUtil.toJson(map, true),
+                    "{\n  \"builder\": {\n    \"label\": \"abc\"\n  },\n  \"string\": {\n    \"label\": \"plain\"\n  }\n}");
+        } finally {
+            JsonUtil.unregister(CharSequence.class);
+        }
+        Assert.assertEquals(JsonUtil.toJson("plain"), "\"plain\"");
+    }
+
+    @Test
+    public void testFromJson_TypedMapValues_ReadsDeclaredValueType() {
+        Scores scores = JsonUtil.fromJson("{\"points\":{\"a\":1,\"b\":2},\"teams\":{\"x\":{\"name\":\"X\",\"age\":3}}}",
+                Scores.class);
+
+        Assert.assertEquals(scores.points.get("a"), Integer.valueOf(1));
+        Assert.assertEquals(scores.teams.get("x").getName(), "X");
+        Assert.assertEquals(scores.teams.get("x").getAge(), 3);
+    }
+
+    @Test
+    public void testToJsonAndFromJson_InheritedFields_ResolvesInheritedGenericField() {
+        Batch batch = new Batch();
+        batch.items = Arrays.asList(container("a", 1));
+        batch.name = "lot";
+
+        String json = JsonUtil.toJson(batch);
+        Assert.assertEquals(json, "{\"items\":[{\"name\":\"a\",\"age\":1,\"active\":false}],\"name\":\"lot\"}");
+
+        Batch parsed = JsonUtil.fromJson(json, Batch.class);
+        Assert.assertEquals(parsed.name, "lot");
+        Assert.assertEquals(parsed.items.get(0).getName(), "a");
+    }
+
+    @Test
+    public void testToJsonAndFromJson_TypedMapKeys_ReadsDeclaredKeyType() {
+        Keyed keyed = new Keyed();
+        keyed.byNumber = new HashMap<>();
+        keyed.byNumber.put(7, "sept");
+        keyed.byStatus = new HashMap<>();
+        keyed.byStatus.put(Status.SHIPPED, 2L);
+        keyed.byId = new HashMap<>();
+        UUID id = UUID.randomUUID();
+        keyed.byId.put(id, true);
+
+        Keyed parsed = JsonUtil.fromJson(JsonUtil.toJson(keyed), Keyed.class);
+
+        Assert.assertEquals(parsed.byNumber.keySet().iterator().next().getClass(), Integer.class);
+        Assert.assertEquals(parsed.byNumber.get(7), "sept");
+        Assert.assertEquals(parsed.byStatus.get(Status.SHIPPED), Long.valueOf(2L));
+        Assert.assertEquals(parsed.byId.get(id), Boolean.TRUE);
+    }
+
+    @Test(expectedExceptions = JsonUtil.JsonParsingException.class)
+    public void testFromJson_InvalidMapKey_ThrowsJsonParsingException() {
+        JsonUtil.fromJson("{\"byNumber\":{\"sept\":\"7\"}}", Keyed.class);
+    }
+
+    @Test(expectedExceptions = JsonUtil.JsonParsingException.class,
+            expectedExceptionsMessageRegExp = ".*non supporté.*")
+    public void testFromJson_UnsupportedMapKeyType_ThrowsJsonParsingException() {
+        JsonUtil.fromJson("{\"byContainer\":{\"a\":1}}", Keyed.class);
+    }
+
+    @Test
+    public void testFromJson_NegativeZero_KeepsSign() {
+        Double value = JsonUtil.fromJson("-0", Double.class);
+
+        Assert.assertEquals(Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(-0.0));
+    }
+
+    @Test
+    public void testToJson_Apostrophe_IsNotEscaped() {
+        Map<String, String> values = Collections.singletonMap("l'été", "aujourd'hui");
+
+        String json = JsonUtil.toJson(values);
+
+        Assert.assertEquals(json, "{\"l'été\":\"aujourd'hui\"}");
+        Assert.assertEquals(JsonUtil.fromJson(json, Map.class), values);
+    }
+
+    @Test(expectedExceptions = JsonUtil.JsonParsingException.class)
+    public void testFromJson_EscapedApostrophe_ThrowsJsonParsingException() {
+        JsonUtil.fromJson("\"aujourd\\'hui\"", String.class);
+    }
+
+    @Test(expectedExceptions = JsonUtil.JsonParsingException.class)
+    public void testFromJson_MalformedJson_ThrowsJsonParsingException() {
+        JsonUtil.fromJson("{\"reference\":\"a\",}", Order.class);
+    }
+
+    @Test(expectedExceptions = JsonUtil.JsonParsingException.class)
+    public void testFromJson_TrailingContent_ThrowsJsonParsingException() {
+        JsonUtil.fromJson("[1] 2", List.class);
+    }
+
+    private static TesterContainer container(String name, int age) {
+        TesterContainer container = new TesterContainer();
+        container.setName(name);
+        container.setAge(age);
+        return container;
+    }
+
+    public enum Status {
+        CREATED, SHIPPED
+    }
+
+    public static class Order {
+        private String reference;
+        private int quantity;
+        private double price;
+        private BigDecimal amount;
+        private Status status;
+        private List<String> tags;
+        private int[] scores;
+        private TesterContainer customer;
+        private Map<String, Object> attributes;
+    }
+
+    static class Event {
+        private LocalDate date;
+        private Instant instant;
+        private ZonedDateTime zoned;
+        private ZoneId zone;
+        private Duration duration;
+        private UUID id;
+        private Status status;
+        private Optional<String> note;
+        private OptionalInt count;
+    }
+
+    static class Group {
+        private List<Object> members;
+    }
+
+    static class Scores {
+        private Map<String, Integer> points;
+        private Map<String, ? extends TesterContainer> teams;
+    }
+
+    static class Page<T> {
+        protected List<T> items;
+    }
+
+    static class Batch extends Page<TesterContainer> {
+        private String name;
+    }
+
+    static class Keyed {
+        private Map<Integer, String> byNumber;
+        private Map<Status, Long> byStatus;
+        private Map<UUID, Boolean> byId;
+        private Map<TesterContainer, Integer> byContainer;
+    }
+
+    static class Node {
+        private static final String IGNORED = "static";
+        private Node next;
+    }
 }
@@ -0,0 +1,81 @@
+package com.utils.shared.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class JsonWriterTest {
+
+    private static final JsonWriterConfig CONFIG = new JsonWriterConfig();
+
+    @Test
+    public void testAcquire_ReusesThreadWriterAfterRelease() {
+        JsonWriter first = JsonWriter.acquire(null, CONFIG);
+        first.buffer().append("abc");
+        first.release();
+        JsonWriter second = JsonWriter.acquire(null, CONFIG);
+        try {
+            Assert.assertSame(second, first);
+            Assert.assertEquals(second.buffer().length(), 0);
+        } finally {
+            second.release();
+        }
+    }
+
+    @Test
+    public void testAcquire_NestedSerializationGetsOwnWriter() {
+        JsonWriter outer = JsonWriter.acquire(null, CONFIG);
+        try {
+            outer.buffer().append("outer");
+            JsonWriter inner = JsonWriter.acquire(null, CONFIG);
+            Assert.assertNotSame(inner, outer);
+            inner.release();
+            Assert.assertEquals(JsonUtil.toJson(Collections.singletonList(1)), "[1]");
+            Assert.assertEquals(outer.buffer().toString(), "outer");
+        } finally {
+            outer.release();
+        }
+    }
+
+    @Test
+    public void testRelease_DropsOversizedBuffer() {
+        char[] large = new char[JsonWriter.MAX_RETAINED_CAPACITY * 2];
+        Arrays.fill(large, 'x');
+        Assert.assertEquals(JsonUtil.toJson(new String(large)).length(), large.length + 2);
+        JsonWriter writer = JsonWriter.acquire(null, CONFIG);
+        try {
+            Assert.assertTrue(writer.buffer().capacity() <= JsonWriter.MAX_RETAINED_CAPACITY);
+        } finally {
+            writer.release();
+        }
+    }
+
+    @Test
+    public void testRelease_AfterFailedSerialization_WriterIsClean() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("disque plein");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try {
+            JsonUtil.toJson(Collections.nCopies(10_000, "valeur"), failing, false);
+            Assert.fail("IOException attendue");
+        } catch (IOException e) {
+            Assert.assertEquals(e.getMessage(), "disque plein");
+        }
+        Assert.assertEquals(JsonUtil.toJson(Collections.singletonMap("a", 1)), "{\"a\":1}");
+    }
+}
@@ -0,0 +1,256 @@
+package com.utils.shared.util;
+
+import com.utils.shared.util.container.TesterContainer;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ObjectClonerTest {
+
+    @Test
+    public void testCopy_nonSerializableGraph_copiesEveryMutableObject() {
+        Document document = document();
+
+        Document copy = ObjectCloner.copy(document);
+
+        assertNotSame(copy, document);
+        assertEquals(copy.id, 42L);
+        assertEquals(copy.ratio, 0.5f);
+        assertEquals(copy.status, Thread.State.NEW);
+        assertNotSame(copy.owner, document.owner);
+        assertEquals(copy.owner.getName(), "John Doe");
+        assertNotSame(copy.scores, document.scores);
+        assertTrue(Arrays.equals(copy.scores, document.scores));
+        assertNotSame(copy.tags, document.tags);
+        assertEquals(copy.tags, document.tags);
+        assertNotSame(copy.attributes.get("owner"), document.owner);
+        assertEquals(copy.optionalOwner.get().getName(), "John Doe");
+        assertEquals(copy.version, 3);
+    }
+
+    @Test
+    public void testCopy_immutableValues_areShared() {
+        Document document = document();
+
+        Document copy = ObjectCloner.copy(document);
+
+        assertSame(copy.title, document.title);
+        assertSame(copy.created, document.created);
+        assertSame(copy.reference, document.reference);
+        assertSame(ObjectCloner.copy(document.title), document.title);
+    }
+
+    @Test
+    public void testCopy_sharedReferencesAndCycles_preservesIdentity() {
+        Document document = document();
+        document.attributes.put("owner", document.owner);
+        document.parent = document;
+        document.links = new Object[]{document.owner, document};
+
+        Document copy = ObjectCloner.copy(document);
+
+        assertSame(copy.attributes.get("owner"), copy.owner);
+        assertSame(copy.optionalOwner.get(), copy.owner);
+        assertSame(copy.parent, copy);
+        assertSame(copy.links[0], copy.owner);
+        assertSame(copy.links[1], copy);
+    }
+
+    @Test
+    public void testCopy_sortedCollection_keepsComparator() {
+        TreeSet<String> names = new TreeSet<>(Comparator.reverseOrder());
+        names.addAll(Arrays.asList("a", "c", "b"));
+
+        TreeSet<String> copy = ObjectCloner.copy(names);
+
+        assertNotSame(copy, names);
+        assertSame(copy.comparator(), names.comparator());
+        assertEquals(new ArrayList<>(copy), Arrays.asList("c", "b", "a"));
+    }
+
+    @Test
+    public void testCopy_collectionSubclass_copiesFieldsAndElements() {
+        NamedList list = new NamedList();
+        list.name = "liste";
+        list.add(new TesterContainer());
+
+        NamedList copy = ObjectCloner.copy(list);
+
+        assertEquals(copy.name, "liste");
+        assertEquals(copy.size(), 1);
+        assertNotSame(copy.get(0), list.get(0));
+    }
+
+    @Test
+    public void testCopy_unsupportedPlatformClasses_usesSerialization() {
+        Date date = new Date(1000L);
+        List<String> fixed = Arrays.asList("a", "b");
+
+        assertEquals(ObjectCloner.copy(date), date);
+        assertNotSame(ObjectCloner.copy(date), date);
+        assertEquals(ObjectCloner.copy(fixed), fixed);
+        assertEquals(ObjectCloner.copy(fixed).getClass(), fixed.getClass());
+    }
+
+    @Test
+    public void testCopy_platformSuperclassWithState_keepsPlatformState() {
+        MyDate date = new MyDate(12345L);
+        date.label = "date";
+
+        MyDate copy = ObjectCloner.copy(date);
+
+        assertNotSame(copy, date);
+        assertEquals(copy.getTime(), 12345L);
+        assertEquals(copy.label, "date");
+    }
+
+    @Test
+    public void testCopy_accessOrderLinkedHashMap_keepsAccessOrder() {
+        LinkedHashMap<String, Integer> map = new LinkedHashMap<>(16, 0.75f, true);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        LinkedHashMap<String, Integer> copy = ObjectCloner.copy(map);
+        copy.get("a");
+
+        assertNotSame(copy, map);
+        assertEquals(new ArrayList<>(copy.keySet()), Arrays.asList("b", "c", "a"));
+        assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("a", "b", "c"));
+    }
+
+    @Test
+    public void testCopy_enumSet_keepsElementType() {
+        EnumSet<Thread.State> states = EnumSet.of(Thread.State.NEW);
+
+        EnumSet<Thread.State> copy = ObjectCloner.copy(states);
+        copy.add(Thread.State.BLOCKED);
+
+        assertEquals(copy, EnumSet.of(Thread.State.NEW, Thread.State.BLOCKED));
+        assertEquals(states, EnumSet.of(Thread.State.NEW));
+    }
+
+    @Test
+    public void testCopy_transientField_keepsConstructorValue() {
+        Cached cached = new Cached();
+        cached.cache = new StringBuilder("calculé");
+
+        Cached copy = ObjectCloner.copy(cached);
+
+        assertEquals(copy.cache.toString(), "");
+    }
+
+    @Test
+    public void testCopy_lockField_copiesWithNewLock() {
+        Guarded guarded = new Guarded();
+        guarded.value = 7;
+
+        Guarded copy = ObjectCloner.copy(guarded);
+
+        assertEquals(copy.value, 7);
+        assertNotNull(copy.lock);
+        assertNotSame(copy.lock, guarded.lock);
+        assertEquals(copy.lock.getClass(), Object.class);
+    }
+
+    @Test
+    public void testCopy_null_returnsNull() {
+        assertNull(ObjectCloner.copy(null));
+    }
+
+    @Test(expectedExceptions = ObjectCloner.CloneException.class)
+    public void testCopy_noDefaultConstructorAndNotSerializable_throwsCloneException() {
+        ObjectCloner.copy(new Immovable("x"));
+    }
+
+    private static Document document() {
+        TesterContainer owner = new TesterContainer();
+        owner.setName("John Doe");
+        Document document = new Document();
+        document.id = 42L;
+        document.ratio = 0.5f;
+        document.status = Thread.State.NEW;
+        document.title = new String("titre");
+        document.created = LocalDate.of(2024, 1, 2);
+        document.reference = UUID.randomUUID();
+        document.owner = owner;
+        document.optionalOwner = Optional.of(owner);
+        document.scores = new int[]{1, 2, 3};
+        document.tags = new ArrayList<>(Arrays.asList("a", "b"));
+        document.attributes = new HashMap<>();
+        document.attributes.put("owner", new TesterContainer());
+        document.version = 3;
+        return document;
+    }
+
+    static class Versioned {
+        protected int version;
+    }
+
+    static class Document extends Versioned {
+        private long id;
+        private float ratio;
+        private Thread.State status;
+        private String title;
+        private Object created;
+        private UUID reference;
+        private TesterContainer owner;
+        private Optional<TesterContainer> optionalOwner;
+        private int[] scores;
+        private List<String> tags;
+        private Map<String, Object> attributes;
+        private Document parent;
+        private Object[] links;
+    }
+
+    static class NamedList extends ArrayList<TesterContainer> {
+        private String name;
+    }
+
+    static class MyDate extends Date {
+        private String label;
+
+        public MyDate() {
+        }
+
+        MyDate(long time) {
+            super(time);
+        }
+    }
+
+    static class Guarded {
+        private final Object lock = new Object();
+        private int value;
+    }
+
+    static class Cached {
+        private transient StringBuilder cache = new StringBuilder();
+    }
+
+    static class Immovable {
+        private final String value;
+
+        Immovable(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.utils.shared.util.container.TesterContainer;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.Serializable;
+
 public class ObjectUtilTest {
 
     @Test
@@ -54,4 +56,53 @@ public class ObjectUtilTest {
         Assert.assertNotSame(obj, copy);
         Assert.assertEquals(obj.getName(), copy.getName());
     }
+
+    @Test
+    public void testDeepCopy_nonSerializableField_copiesField() {
+        Holder holder = new Holder();
+        holder.counter = new Counter();
+        holder.counter.value = 3;
+
+        Holder copy = ObjectUtil.deepCopy(holder);
+
+        Assert.assertNotNull(copy);
+        Assert.assertNotSame(copy.counter, holder.counter);
+        Assert.assertEquals(copy.counter.value, 3);
+    }
+
+    @Test
+    public void testDeepCopy_transientField_isNotCopied() {
+        Holder holder = new Holder();
+        holder.cache = "calculé";
+
+        Holder copy = ObjectUtil.deepCopy(holder);
+
+        Assert.assertNotNull(copy);
+        Assert.assertNull(copy.cache);
+    }
+
+    @Test
+    public void testDeepCopy_readResolveSingleton_keepsInstance() {
+        Assert.assertSame(ObjectUtil.deepCopy(Singleton.INSTANCE), Singleton.INSTANCE);
+    }
+
+    static class Holder implements Serializable {
+        private Counter counter;
+        private transient String cache;
+    }
+
+    static class Counter {
+        private int value;
+    }
+
+    static final class Singleton implements Serializable {
+        static final Singleton INSTANCE = new Singleton();
+
+        private Singleton() {
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
 }
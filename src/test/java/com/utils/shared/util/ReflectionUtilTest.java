@@ -4,7 +4,13 @@ import com.utils.shared.util.container.TesterContainer;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Field;
+import java.util.AbstractList;
+import java.util.ArrayList;
+
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class ReflectionUtilTest {
@@ -36,6 +42,22 @@ public class ReflectionUtilTest {
         ReflectionUtil.setFieldValue(obj, "nonExistingField", "value");
     }
 
+    @Test
+    public void testGetField_existingField_returnsCachedField() {
+        assertSame(ReflectionUtil.getField("age", TesterContainer.class),
+                ReflectionUtil.getField("age", TesterContainer.class));
+    }
+
+    @Test
+    public void testGetFieldsSorted_returnsCopySortedByName() {
+        Field[] fields = ReflectionUtil.getFieldsSorted(TesterContainer.class);
+        fields[0] = null;
+
+        Field[] sorted = ReflectionUtil.getFieldsSorted(TesterContainer.class);
+        assertEquals(sorted[0].getName(), "active");
+        assertEquals(ReflectionUtil.findFieldByName("name", sorted).getName(), "name");
+    }
+
     @Test
     public void testCreateInstance() {
         TesterContainer instance = ReflectionUtil.createInstance(TesterContainer.class);
@@ -50,6 +72,100 @@ public class ReflectionUtilTest {
         Assert.assertNull(instance);
     }
 
+    @Test
+    public void testGetInstantiator_createsDistinctInstancesFromCachedInstantiator() {
+        Instantiator<TesterContainer> instantiator = ReflectionUtil.getInstantiator(TesterContainer.class);
+
+        assertSame(ReflectionUtil.getInstantiator(TesterContainer.class), instantiator);
+        assertNotSame(instantiator.newInstance(), instantiator.newInstance());
+    }
+
+    @Test
+    public void testGetInstantiator_closedPackage_usesConstructor() {
+        assertEquals(ReflectionUtil.getInstantiator(ArrayList.class).newInstance(), new ArrayList<>());
+    }
+
+    @Test
+    public void testGetInstantiator_privateClass_reportsInaccessibleConstructor() {
+        try {
+            ReflectionUtil.getInstantiator(UnAccessibleTesterContainer.class);
+            Assert.fail("ReflectionException attendue");
+        } catch (ReflectionUtil.ReflectionException e) {
+            assertTrue(e.getMessage().contains("inaccessible"));
+            assertTrue(e.getCause() instanceof IllegalAccessException);
+        }
+    }
+
+    @Test(expectedExceptions = ReflectionUtil.ReflectionException.class)
+    public void testGetInstantiator_abstractClass_throwsReflectionException() {
+        ReflectionUtil.getInstantiator(AbstractList.class);
+    }
+
+    @Test(expectedExceptions = ReflectionUtil.ReflectionException.class)
+    public void testGetInstantiator_noDefaultConstructor_throwsReflectionException() {
+        ReflectionUtil.getInstantiator(Integer.class);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testGetInstantiator_failingConstructor_propagatesException() {
+        ReflectionUtil.getInstantiator(FailingTesterContainer.class).newInstance();
+    }
+
+    @Test
+    public void testGetAllFields_inheritedFields_fromRootClassWithoutShadowedField() {
+        Field[] fields = ReflectionUtil.getAllFields(Child.class);
+
+        assertEquals(fields.length, 3);
+        assertEquals(fields[0].getName(), "id");
+        assertEquals(fields[1].getName(), "label");
+        assertEquals(fields[1].getDeclaringClass(), Child.class);
+        assertEquals(fields[2].getName(), "count");
+        assertNotSame(ReflectionUtil.getAllFields(Child.class), fields);
+    }
+
+    @Test
+    public void testGetAllFields_modifiedCopy_leavesCachedFieldsIntact() {
+        Field[] fields = ReflectionUtil.getAllFields(Child.class);
+        fields[0] = null;
+
+        assertEquals(ReflectionUtil.getAllFields(Child.class)[0].getName(), "id");
+        assertEquals(ClassMetadata.of(Child.class).allFieldList().get(0).getName(), "id");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testAllFieldList_isUnmodifiable() {
+        ClassMetadata.of(Child.class).allFieldList().clear();
+    }
+
+    @Test
+    public void testGetAllFields_jdkSuperclass_skipsJdkFields() {
+        Field[] fields = ReflectionUtil.getAllFields(NamedList.class);
+
+        assertEquals(fields.length, 1);
+        assertEquals(fields[0].getName(), "name");
+    }
+
     private static class UnAccessibleTesterContainer {
     }
+
+    static class Parent {
+        private static int instances;
+        private long id;
+        protected String label;
+    }
+
+    static class Child extends Parent {
+        private String label;
+        private int count;
+    }
+
+    static class NamedList extends ArrayList<String> {
+        private String name;
+    }
+
+    static class FailingTesterContainer {
+        FailingTesterContainer() {
+            throw new IllegalStateException("échec");
+        }
+    }
 }
@@ -192,6 +192,20 @@ public class StringUtilTest {
         Assert.assertEquals(expectedOutput, escaped);
     }
 
+    @Test
+    public void testEscape_ControlCharactersAndCleanInput() {
+        Assert.assertEquals(StringUtil.escape("a\u0001b\u007f\u0085c'"), "a\\u0001b\\u007f\\u0085c\\'");
+        String clean = "Déjà vu";
+        Assert.assertSame(StringUtil.escape(clean), clean);
+    }
+
+    @Test
+    public void testEscape_AppendsToExistingBuilder() {
+        StringBuilder builder = new StringBuilder("prefix:");
+        StringUtil.escape("Hello\tWorld\\", builder);
+        Assert.assertEquals(builder.toString(), "prefix:Hello\\tWorld\\\\");
+    }
+
     @Test
     public void testDeCapitalizeWithEmptyString() {
         String result = StringUtil.deCapitalize("");
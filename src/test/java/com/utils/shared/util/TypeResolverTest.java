@@ -0,0 +1,120 @@
+package com.utils.shared.util;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class TypeResolverTest {
+
+    @Test
+    public void testResolve_variableBoundBySubclass_substitutesArgument() {
+        Type type = TypeResolver.resolve(CustomerPage.class, field(Page.class, "items"));
+
+        assertTrue(type instanceof ParameterizedType);
+        assertEquals(((ParameterizedType) type).getRawType(), List.class);
+        assertEquals(((ParameterizedType) type).getActualTypeArguments()[0], String.class);
+        assertEquals(TypeResolver.rawType(TypeResolver.resolve(CustomerPage.class, field(Page.class, "first"))),
+                String.class);
+    }
+
+    @Test
+    public void testResolve_sameOwnerAndField_returnsCachedType() {
+        Field items = field(Page.class, "items");
+
+        assertSame(TypeResolver.resolve(CustomerPage.class, items), TypeResolver.resolve(CustomerPage.class, items));
+    }
+
+    @Test
+    public void testResolve_variableBoundThroughIntermediateClass() {
+        assertEquals(TypeResolver.elementType(Leaf.class, field(Page.class, "items")), Integer.class);
+        assertEquals(TypeResolver.rawType(TypeResolver.resolve(Leaf.class, field(Pair.class, "right"))), Long.class);
+    }
+
+    @Test
+    public void testResolve_unboundVariable_reducesToBound() {
+        Type type = TypeResolver.resolve(Page.class, field(Page.class, "first"));
+
+        assertTrue(type instanceof TypeVariable);
+        assertEquals(TypeResolver.rawType(type), Object.class);
+        assertEquals(TypeResolver.rawType(TypeResolver.resolve(Bounded.class, field(Bounded.class, "value"))),
+                Number.class);
+    }
+
+    @Test
+    public void testElementType_containers() {
+        assertEquals(TypeResolver.elementType(Holder.class, field(Holder.class, "byName")), Double.class);
+        assertEquals(TypeResolver.elementType(Holder.class, field(Holder.class, "wildcard")), Number.class);
+        assertEquals(TypeResolver.elementType(Holder.class, field(Holder.class, "nested")), List.class);
+        assertEquals(TypeResolver.elementType(Holder.class, field(Holder.class, "maybe")), String.class);
+        assertEquals(TypeResolver.elementType(Holder.class, field(Holder.class, "names")), String.class);
+        assertEquals(TypeResolver.elementType(Holder.class, field(Holder.class, "plain")), Object.class);
+        assertEquals(TypeResolver.elementType(CustomerPage.class, field(Page.class, "array")), String.class);
+    }
+
+    @Test
+    public void testTypeArguments_throughSupertypes() {
+        assertEquals(TypeResolver.typeArgument(Names.class, Collection.class, 0), String.class);
+        assertEquals(TypeResolver.typeArgument(Names.class, Supplier.class, 0), Integer.class);
+        assertNull(TypeResolver.typeArguments(Names.class, Map.class));
+    }
+
+    @Test
+    public void testGetCollectionType_wildcardAndNested_resolvesFirstArgument() {
+        assertEquals(ReflectionUtil.getCollectionType(field(Holder.class, "wildcard")), Number.class);
+        assertEquals(ReflectionUtil.getCollectionType(field(Holder.class, "nested")), String.class);
+    }
+
+    private static Field field(Class<?> clazz, String name) {
+        return ClassMetadata.of(clazz).field(name);
+    }
+
+    static class Page<T> {
+        List<T> items;
+        T first;
+        T[] array;
+    }
+
+    static class CustomerPage extends Page<String> {
+    }
+
+    static class Pair<L, R> extends Page<L> {
+        R right;
+    }
+
+    static class Leaf extends Pair<Integer, Long> {
+    }
+
+    static class Bounded<N extends Number> {
+        N value;
+    }
+
+    static class Names extends ArrayList<String> implements Supplier<Integer> {
+        @Override
+        public Integer get() {
+            return size();
+        }
+    }
+
+    static class Holder {
+        Map<String, Double> byName;
+        List<? extends Number> wildcard;
+        Map<String, List<String>> nested;
+        Optional<String> maybe;
+        Names names;
+        String plain;
+    }
+}